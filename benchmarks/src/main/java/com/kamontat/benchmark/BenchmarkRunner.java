@@ -0,0 +1,30 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks twice, on one thread and on every available core, with the gc profiler enabled so
+ * the report shows allocation per operation. <br>
+ * Accepts the same arguments as <code>org.openjdk.jmh.Main</code>, e.g. a benchmark regex.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 11:26 AM
+ */
+public final class BenchmarkRunner {
+	private BenchmarkRunner() {
+	}
+	
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		int[] threads = new int[]{1, Runtime.getRuntime().availableProcessors()};
+		for (int thread : threads) {
+			new Runner(new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).threads(thread).build()).run();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start cost of {@code HttpStatus}: class initialization alone, and followed by the first json rendering. <br>
+ * Every measurement runs in a fresh JVM, so this class must never touch {@code HttpStatus} (nor
+ * {@link HttpStatusHandles}) outside of the benchmark methods.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 04:05 PM
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ClassInitBenchmark {
+	@Benchmark
+	public Class<?> initialize() throws ClassNotFoundException {
+		return Class.forName("HttpStatus");
+	}
+	
+	@Benchmark
+	public Object initializeAndRenderJson() throws ReflectiveOperationException {
+		Class<?> httpStatus = Class.forName("HttpStatus");
+		Object notFound = httpStatus.getField("Not_Found").get(null);
+		return httpStatus.getMethod("getJsonString").invoke(notFound);
+	}
+}
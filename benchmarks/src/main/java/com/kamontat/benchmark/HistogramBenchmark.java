@@ -0,0 +1,58 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.kamontat.benchmark.HttpStatusHandles.*;
+
+/**
+ * Bulk counting of an access log status column, against a loop that calls getByCode per row.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 02:20 PM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistogramBenchmark {
+	@Param({"1000000"})
+	public int rows;
+	
+	private int[] codes;
+	
+	@Setup
+	public void setup() {
+		// mostly 2xx with some 3xx, 4xx, 5xx and garbage, like a real access log
+		int[] sample = new int[]{200, 200, 200, 200, 200, 200, 204, 301, 304, 404, 404, 499, 500, 503, 0};
+		Random random = new Random(42);
+		codes = new int[rows];
+		for (int i = 0; i < rows; i++) {
+			codes[i] = sample[random.nextInt(sample.length)];
+		}
+	}
+	
+	@Benchmark
+	public long[] getByCodeLoop() throws Throwable {
+		long[] histogram = new long[128];
+		for (int code : codes) {
+			histogram[((Enum<?>) ((Object[]) (Object) GET_BY_CODE_INT.invokeExact(code))[0]).ordinal()]++;
+		}
+		return histogram;
+	}
+	
+	@Benchmark
+	public long[] histogram() throws Throwable {
+		return (long[]) HISTOGRAM.invokeExact(codes);
+	}
+	
+	@Benchmark
+	public long[] parallelHistogram() throws Throwable {
+		return (long[]) PARALLEL_HISTOGRAM.invokeExact(codes);
+	}
+}
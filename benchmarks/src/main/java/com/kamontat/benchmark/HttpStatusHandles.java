@@ -0,0 +1,123 @@
+package com.kamontat.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Method handles into {@code HttpStatus}. <br>
+ * {@code HttpStatus} lives in the unnamed package, which cannot be imported from a named package, while JMH refuses
+ * benchmarks in the unnamed package. Every {@code HttpStatus} type in a handle is erased to {@link Object}, and the
+ * handle is stored in a {@code static final} field, so the JIT treats it as a constant and inlines the target just like a direct call.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 11:02 AM
+ */
+final class HttpStatusHandles {
+	static final Class<?> HTTP_STATUS = load("HttpStatus");
+	private static final Class<?> HTTP_STATUS_ARRAY = java.lang.reflect.Array.newInstance(HTTP_STATUS, 0).getClass();
+	
+	/**
+	 * {@code (int) -> HttpStatus[]}
+	 */
+	static final MethodHandle GET_BY_CODE_INT = findStatic(HTTP_STATUS, "getByCode", HTTP_STATUS_ARRAY, int.class);
+	/**
+	 * {@code (String) -> HttpStatus[]}
+	 */
+	static final MethodHandle GET_BY_CODE_STRING = findStatic(HTTP_STATUS, "getByCode", HTTP_STATUS_ARRAY, String.class);
+	/**
+	 * {@code (byte[], int) -> HttpStatus[]}
+	 */
+	static final MethodHandle GET_BY_CODE_BYTES = findStatic(HTTP_STATUS, "getByCode", HTTP_STATUS_ARRAY, byte[].class, int.class);
+	/**
+	 * {@code (CharSequence) -> HttpStatus}
+	 */
+	static final MethodHandle GET_BY_NAME = findStatic(HTTP_STATUS, "getByName", HTTP_STATUS, CharSequence.class);
+	/**
+	 * {@code (int) -> HttpStatus}
+	 */
+	static final MethodHandle PRIMARY = findStatic(HTTP_STATUS, "primary", HTTP_STATUS, int.class);
+	/**
+	 * {@code (HttpStatus) -> String}
+	 */
+	static final MethodHandle GENERATE_JSON_STRING = findVirtual("generateJsonString", String.class);
+	/**
+	 * {@code (HttpStatus) -> String}
+	 */
+	static final MethodHandle GET_JSON_STRING = findVirtual("getJsonString", String.class);
+	/**
+	 * {@code (HttpStatus) -> String}
+	 */
+	static final MethodHandle TO_STRING = findVirtual("toString", String.class);
+	/**
+	 * {@code (HttpStatus, StringBuilder) -> StringBuilder}
+	 */
+	static final MethodHandle APPEND_TO = findVirtual("appendTo", StringBuilder.class, StringBuilder.class);
+	/**
+	 * {@code (HttpStatus, OutputStream) -> void}
+	 */
+	static final MethodHandle WRITE_JSON = findVirtual("writeJson", void.class, java.io.OutputStream.class);
+	/**
+	 * {@code HttpStatusHistogram.histogram: (int[]) -> long[]}
+	 */
+	static final MethodHandle HISTOGRAM = findStatic(load("HttpStatusHistogram"), "histogram", long[].class, int[].class);
+	/**
+	 * {@code HttpStatusHistogram.parallelHistogram: (int[]) -> long[]}
+	 */
+	static final MethodHandle PARALLEL_HISTOGRAM = findStatic(load("HttpStatusHistogram"), "parallelHistogram", long[].class, int[].class);
+	
+	private HttpStatusHandles() {
+	}
+	
+	/**
+	 * Returns the {@code HttpStatus} constant with the supplied name
+	 *
+	 * @param name
+	 * 		the name of the constant
+	 * @return the constant
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static Object status(String name) {
+		return Enum.valueOf((Class) HTTP_STATUS, name);
+	}
+	
+	private static Class<?> load(String name) {
+		try {
+			return Class.forName(name);
+		} catch (ClassNotFoundException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	private static MethodHandle findStatic(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+		try {
+			MethodHandle handle = MethodHandles.publicLookup().findStatic(owner, name, MethodType.methodType(returnType, parameterTypes));
+			return erase(handle);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	private static MethodHandle findVirtual(String name, Class<?> returnType, Class<?>... parameterTypes) {
+		try {
+			MethodHandle handle = MethodHandles.publicLookup().findVirtual(HTTP_STATUS, name, MethodType.methodType(returnType, parameterTypes));
+			return erase(handle);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	private static MethodHandle erase(MethodHandle handle) {
+		MethodType type = handle.type();
+		for (int i = 0; i < type.parameterCount(); i++) {
+			if (type.parameterType(i) == HTTP_STATUS || type.parameterType(i) == HTTP_STATUS_ARRAY) {
+				type = type.changeParameterType(i, Object.class);
+			}
+		}
+		if (type.returnType() == HTTP_STATUS || type.returnType() == HTTP_STATUS_ARRAY) {
+			type = type.changeReturnType(Object.class);
+		}
+		return handle.asType(type);
+	}
+}
@@ -0,0 +1,36 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.kamontat.benchmark.HttpStatusHandles.*;
+
+/**
+ * Lookup of a status by its int code, for a plain code, a code shared by several constants, the Unknown code and codes
+ * outside the table.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 11:10 AM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+	@Param({"200", "404", "499", "999", "1234", "-1"})
+	public int code;
+	
+	@Benchmark
+	public Object getByCodeInt() throws Throwable {
+		return (Object) GET_BY_CODE_INT.invokeExact(code);
+	}
+	
+	@Benchmark
+	public Object primary() throws Throwable {
+		return (Object) PRIMARY.invokeExact(code);
+	}
+}
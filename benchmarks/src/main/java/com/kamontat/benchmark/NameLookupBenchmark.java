@@ -0,0 +1,30 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.kamontat.benchmark.HttpStatusHandles.*;
+
+/**
+ * Lookup of a status by reason phrase or constant name, in different cases and for a miss.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 04:40 PM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameLookupBenchmark {
+	@Param({"Not Found", "not_found", "NOT FOUND", "Network_Authentication_Required", "Not Foun"})
+	public String name;
+	
+	@Benchmark
+	public Object getByName() throws Throwable {
+		return (Object) GET_BY_NAME.invokeExact((CharSequence) name);
+	}
+}
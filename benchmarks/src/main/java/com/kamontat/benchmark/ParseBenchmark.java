@@ -0,0 +1,47 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.kamontat.benchmark.HttpStatusHandles.*;
+
+/**
+ * Parsing of a status code from text, for valid, duplicate, padded, non-numeric and out of range input.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 11:14 AM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+	@Param({"404", "499", "0404", "abc", "1234"})
+	public String input;
+	
+	/**
+	 * <code>input</code> inside an HTTP status line, the code starts at {@link #STATUS_OFFSET}
+	 */
+	private byte[] statusLine;
+	private static final int STATUS_OFFSET = 9;
+	
+	@Setup
+	public void setup() {
+		statusLine = ("HTTP/1.1 " + input + " Reason\r\n").getBytes(StandardCharsets.ISO_8859_1);
+	}
+	
+	@Benchmark
+	public Object getByCodeString() throws Throwable {
+		return (Object) GET_BY_CODE_STRING.invokeExact(input);
+	}
+	
+	@Benchmark
+	public Object getByCodeBytes() throws Throwable {
+		return (Object) GET_BY_CODE_BYTES.invokeExact(statusLine, STATUS_OFFSET);
+	}
+}
@@ -0,0 +1,78 @@
+package com.kamontat.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.kamontat.benchmark.HttpStatusHandles.*;
+
+/**
+ * Rendering of a status as json and as text.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 11:20 AM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+	@Param({"OK", "Not_Found", "Unknown"})
+	public String name;
+	
+	private Object status;
+	private OutputStream out;
+	private StringBuilder builder;
+	
+	@Setup
+	public void setup(final Blackhole blackhole) {
+		status = status(name);
+		builder = new StringBuilder(256);
+		out = new OutputStream() {
+			@Override
+			public void write(int b) {
+				blackhole.consume(b);
+			}
+			
+			@Override
+			public void write(byte[] b, int off, int len) {
+				blackhole.consume(b);
+			}
+		};
+	}
+	
+	@Benchmark
+	public String generateJsonString() throws Throwable {
+		return (String) GENERATE_JSON_STRING.invokeExact(status);
+	}
+	
+	@Benchmark
+	public String getJsonString() throws Throwable {
+		return (String) GET_JSON_STRING.invokeExact(status);
+	}
+	
+	@Benchmark
+	public String toStringJson() throws Throwable {
+		return (String) TO_STRING.invokeExact(status);
+	}
+	
+	/**
+	 * Appends into a reused builder, the way a log framework fills its buffer
+	 */
+	@Benchmark
+	public StringBuilder appendTo() throws Throwable {
+		builder.setLength(0);
+		return (StringBuilder) APPEND_TO.invokeExact(status, builder);
+	}
+	
+	@Benchmark
+	public void writeJson() throws Throwable {
+		WRITE_JSON.invokeExact(status, out);
+	}
+}
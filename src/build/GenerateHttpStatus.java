@@ -0,0 +1,327 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the {@code HttpStatus} constants and {@code HttpStatusData} from <code>src/main/data/http-status.csv</code>.
+ * <br>
+ * Runs as a single-file program during the <code>generate-sources</code> phase:
+ * <pre>java src/build/GenerateHttpStatus.java &lt;csv&gt; &lt;source directory&gt;</pre>
+ * The constants replace the region between {@link #BEGIN} and {@link #END} in <code>HttpStatus.java</code>, and
+ * <code>HttpStatusData.java</code> is written from scratch. Both are checked in, and a file is only rewritten when its
+ * content changes, so a build from an up to date tree leaves the work tree clean.
+ * <p>
+ * The csv has a header line, then one line per constant in declaration order with the columns
+ * <code>name,code,source,codec_id,codec_version,description,doc</code>. Fields follow RFC 4180: a field holding a
+ * comma, a quote or a line break is quoted, and a quote inside it is doubled.
+ * <p>
+ * <code>codec_id</code> is the stable id of {@code HttpStatusCodec} and <code>codec_version</code> the table version
+ * that released it. The id table is append only, so a new constant takes the next free id with a version one above
+ * the current one, and existing ids never change; the generator rejects gaps, duplicates and ids of a new version
+ * that come before ids of an older one.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 08:30 PM
+ */
+public final class GenerateHttpStatus {
+	static final String BEGIN = "\t// BEGIN GENERATED CONSTANTS: edit src/main/data/http-status.csv, not this region\n";
+	static final String END = "\t// END GENERATED CONSTANTS\n";
+	private static final String SEPARATOR = "\t\n\t// --------------------------------------------------------------------\n\t\n";
+	
+	private GenerateHttpStatus() {
+	}
+	
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: java GenerateHttpStatus.java <csv> <source directory>");
+			System.exit(2);
+		}
+		List<Row> rows = read(Paths.get(args[0]));
+		Path sources = Paths.get(args[1]);
+		
+		Path enumFile = sources.resolve("HttpStatus.java");
+		String source = new String(Files.readAllBytes(enumFile), StandardCharsets.UTF_8);
+		int begin = source.indexOf(BEGIN);
+		int end = source.indexOf(END);
+		if (begin < 0 || end < begin) {
+			throw new IllegalStateException(enumFile + " has no generated constants region");
+		}
+		write(enumFile, source.substring(0, begin + BEGIN.length()) + constants(rows) + source.substring(end));
+		write(sources.resolve("HttpStatusData.java"), data(rows));
+	}
+	
+	private static String constants(List<Row> rows) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			if (i > 0 && !category(rows.get(i - 1).code).equals(category(row.code))) {
+				builder.append(SEPARATOR);
+			}
+			builder.append("\t/**\n");
+			if (!category(row.code).isEmpty()) {
+				builder.append("\t * <b>").append(category(row.code)).append("</b> <br>\n");
+			}
+			for (String line : row.doc.split("\n")) {
+				builder.append("\t * ").append(line.replace("*/", "*&#47;")).append('\n');
+			}
+			builder.append("\t */\n");
+			builder.append('\t').append(row.name).append('(').append(row.code).append(", ");
+			if (!row.source.equals("IANA")) {
+				builder.append("Source.").append(row.source).append(", ");
+			}
+			builder.append(javaString(row.description)).append(')').append(i == rows.size() - 1 ? ';': ',').append('\n');
+		}
+		return builder.toString();
+	}
+	
+	private static String data(List<Row> rows) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("/**\n");
+		builder.append(" * Rendered forms of every {@link HttpStatus}, index is the ordinal. <br>\n");
+		builder.append(" * Generated at build time by <code>src/build/GenerateHttpStatus.java</code> from\n");
+		builder.append(" * <code>src/main/data/http-status.csv</code>, so no formatting happens at runtime. Do not edit.\n");
+		builder.append(" */\n");
+		builder.append("final class HttpStatusData {\n");
+		builder.append("\t/**\n\t * {@link HttpStatus#getName()} of every constant\n\t */\n");
+		builder.append("\tstatic final String[] NAMES = new String[]{\n");
+		for (int i = 0; i < rows.size(); i++) {
+			builder.append("\t\t\t").append(javaString(displayName(rows.get(i)))).append(i == rows.size() - 1 ? "\n": ",\n");
+		}
+		builder.append("\t};\n\t\n");
+		builder.append("\t/**\n\t * {@link HttpStatus#getJsonString()} of every constant\n\t */\n");
+		builder.append("\tstatic final String[] JSON = new String[]{\n");
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			String json = "{\"code\": " + row.code + ", \"name\": \"" + escapeJson(displayName(row)) + "\", \"description\": \"" + escapeJson(row.description) + "\"}";
+			builder.append("\t\t\t").append(javaString(json)).append(i == rows.size() - 1 ? "\n": ",\n");
+		}
+		builder.append("\t};\n\t\n");
+		builder.append("\t/**\n\t * {@link HttpStatus#toString()} of every constant\n\t */\n");
+		builder.append("\tstatic final String[] PRETTY = new String[]{\n");
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			String json = "{\n\t\"code\": " + row.code + ", \n\t\"name\": \"" + escapeJson(displayName(row)) + "\", \n\t\"description\": \"" + escapeJson(row.description) + "\"}";
+			builder.append("\t\t\t").append(javaString(json)).append(i == rows.size() - 1 ? "\n": ",\n");
+		}
+		builder.append("\t};\n\t\n");
+		codec(rows, builder);
+		builder.append("\tprivate HttpStatusData() {\n\t}\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+	
+	/**
+	 * Appends the id table of {@code HttpStatusCodec}, after checking that it is a valid append-only table
+	 */
+	private static void codec(List<Row> rows, StringBuilder builder) {
+		Row[] byId = new Row[rows.size()];
+		int version = 0;
+		for (Row row : rows) {
+			if (row.codecId < 0 || row.codecId >= byId.length || byId[row.codecId] != null) {
+				throw new IllegalStateException("codec_id of " + row.name + " must be unique and from 0 to " + (byId.length - 1) + ": " + row.codecId);
+			}
+			if (row.codecVersion < 1) {
+				throw new IllegalStateException("codec_version of " + row.name + " must be at least 1: " + row.codecVersion);
+			}
+			byId[row.codecId] = row;
+			version = Math.max(version, row.codecVersion);
+		}
+		if (byId.length > 256) {
+			throw new IllegalStateException("codec ids must fit in a byte: " + byId.length + " constants");
+		}
+		int[] sizes = new int[version + 1];
+		for (int id = 0; id < byId.length; id++) {
+			if (id > 0 && byId[id].codecVersion < byId[id - 1].codecVersion) {
+				throw new IllegalStateException("codec_id " + id + " of version " + byId[id].codecVersion + " comes after an id of version " + byId[id - 1].codecVersion);
+			}
+			sizes[byId[id].codecVersion] = id + 1;
+		}
+		for (int v = 1; v < sizes.length; v++) {
+			sizes[v] = Math.max(sizes[v], sizes[v - 1]);
+		}
+		builder.append("\t/**\n\t * {@link HttpStatusCodec#VERSION}, the largest codec_version of the csv\n\t */\n");
+		builder.append("\tstatic final int CODEC_VERSION = ").append(version).append(";\n\t\n");
+		builder.append("\t/**\n\t * Number of codec ids in each version of the table, index is the version\n\t */\n");
+		builder.append("\tstatic final int[] CODEC_TABLE_SIZES = new int[]{");
+		for (int v = 0; v < sizes.length; v++) {
+			builder.append(v > 0 ? ", ": "").append(sizes[v]);
+		}
+		builder.append("};\n\t\n");
+		builder.append("\t/**\n\t * Every status in codec id order\n\t */\n");
+		builder.append("\tstatic final HttpStatus[] CODEC_BY_ID = new HttpStatus[]{\n");
+		for (int id = 0; id < byId.length; id++) {
+			builder.append("\t\t\tHttpStatus.").append(byId[id].name).append(id == byId.length - 1 ? "": ",").append(" // ").append(id).append('\n');
+		}
+		builder.append("\t};\n\t\n");
+	}
+	
+	private static String displayName(Row row) {
+		return row.name.replace('_', ' ');
+	}
+	
+	private static String category(int code) {
+		switch (code / 100) {
+			case 1:
+				return "Information";
+			case 2:
+				return "Success";
+			case 3:
+				return "Redirection";
+			case 4:
+				return "Client Error";
+			case 5:
+				return "Server Error";
+			default:
+				return "";
+		}
+	}
+	
+	/**
+	 * Same escaping as {@code HttpStatus.escapeJson}, the generated json must match
+	 * {@code generateJsonString()} and the former {@code toString()}
+	 */
+	private static String escapeJson(String text) {
+		StringBuilder builder = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					} else {
+						builder.append(c);
+					}
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Returns the text as a Java string literal, non-ASCII characters as unicode escapes
+	 */
+	private static String javaString(String text) {
+		StringBuilder builder = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c == '\n') {
+				builder.append("\\n");
+			} else if (c == '\t') {
+				builder.append("\\t");
+			} else if (c < 0x20 || c > 0x7E) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.append('"').toString();
+	}
+	
+	private static void write(Path file, String content) throws IOException {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		if (Files.exists(file) && java.util.Arrays.equals(Files.readAllBytes(file), bytes)) {
+			return;
+		}
+		Files.write(file, bytes);
+		System.out.println("generated " + file);
+	}
+	
+	private static List<Row> read(Path csv) throws IOException {
+		List<List<String>> records = parseCsv(new String(Files.readAllBytes(csv), StandardCharsets.UTF_8));
+		List<String> header = records.get(0);
+		String[] expected = new String[]{"name", "code", "source", "codec_id", "codec_version", "description", "doc"};
+		if (!header.equals(java.util.Arrays.asList(expected))) {
+			throw new IllegalStateException(csv + " must start with the header " + String.join(",", expected));
+		}
+		List<Row> rows = new ArrayList<Row>();
+		for (int i = 1; i < records.size(); i++) {
+			List<String> record = records.get(i);
+			if (record.size() != expected.length) {
+				throw new IllegalStateException(csv + " record " + i + " has " + record.size() + " fields instead of " + expected.length);
+			}
+			rows.add(new Row(record.get(0), Integer.parseInt(record.get(1)), record.get(2), Integer.parseInt(record.get(3)), Integer.parseInt(record.get(4)), record.get(5), record.get(6)));
+		}
+		if (rows.isEmpty() || rows.get(rows.size() - 1).code != 999) {
+			throw new IllegalStateException(csv + " must end with the Unknown (999) constant");
+		}
+		return rows;
+	}
+	
+	private static List<List<String>> parseCsv(String text) {
+		List<List<String>> records = new ArrayList<List<String>>();
+		List<String> record = new ArrayList<String>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				record.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n') {
+				record.add(field.toString());
+				field.setLength(0);
+				records.add(record);
+				record = new ArrayList<String>();
+			} else if (c != '\r') {
+				field.append(c);
+			}
+		}
+		if (field.length() > 0 || !record.isEmpty()) {
+			record.add(field.toString());
+			records.add(record);
+		}
+		return records;
+	}
+	
+	private static final class Row {
+		final String name;
+		final int code;
+		final String source;
+		final int codecId;
+		final int codecVersion;
+		final String description;
+		final String doc;
+		
+		Row(String name, int code, String source, int codecId, int codecVersion, String description, String doc) {
+			this.name = name;
+			this.code = code;
+			this.source = source;
+			this.codecId = codecId;
+			this.codecVersion = codecVersion;
+			this.description = description;
+			this.doc = doc;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+/**
+ * Reads the status of every line of a Common or Combined Log Format file, e.g.
+ * <pre>127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] "GET /apache_pb.gif HTTP/1.0" 200 2326</pre>
+ * The file is mapped into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)} one chunk at a time, and
+ * the status is read straight from the mapped bytes: lines are never decoded into Strings. A line without a readable
+ * status counts as {@link HttpStatus#Unknown}, while empty lines are skipped.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 03:10 PM
+ */
+public final class AccessLogStatusExtractor {
+	/**
+	 * Largest number of bytes mapped at once, a single line must fit in it
+	 */
+	static final int CHUNK_SIZE = 256 * 1024 * 1024;
+	
+	/**
+	 * Receives the lines of a log file
+	 */
+	public interface LineHandler {
+		/**
+		 * Handles a single line. <br>
+		 * The buffer is a read-only view over the mapped file, from the first byte of the line to the last one before
+		 * the line break. The same view is reused for the next line, so it must not be kept after this method returns.
+		 *
+		 * @param line
+		 * 		the bytes of the line
+		 * @param status
+		 * 		the status of the line
+		 */
+		void line(ByteBuffer line, HttpStatus status);
+	}
+	
+	private AccessLogStatusExtractor() {
+	}
+	
+	/**
+	 * Counts the status of every line of the supplied file
+	 *
+	 * @param file
+	 * 		the log file
+	 * @return the count of every status, index is {@link HttpStatus#ordinal()}
+	 * @throws IOException
+	 * 		if the file cannot be read or contains a line longer than the mapping chunk
+	 */
+	public static long[] countStatuses(Path file) throws IOException {
+		final long[] histogram = HttpStatusHistogram.newHistogram();
+		read(file, null, new LineHandler() {
+			@Override
+			public void line(ByteBuffer line, HttpStatus status) {
+				histogram[status.ordinal()]++;
+			}
+		}, CHUNK_SIZE);
+		return histogram;
+	}
+	
+	/**
+	 * Passes every line of the supplied file with one of the supplied statuses to the handler, in file order
+	 *
+	 * @param file
+	 * 		the log file
+	 * @param statuses
+	 * 		the statuses to keep, an {@link java.util.EnumSet} is the fastest
+	 * @param handler
+	 * 		the handler of the kept lines
+	 * @throws IOException
+	 * 		if the file cannot be read or contains a line longer than the mapping chunk
+	 */
+	public static void forEachLine(Path file, Set<HttpStatus> statuses, LineHandler handler) throws IOException {
+		forEachLine(file, statuses, handler, CHUNK_SIZE);
+	}
+	
+	/**
+	 * Same as {@link #forEachLine(Path, Set, LineHandler)} with a chosen mapping chunk, so tests can split lines
+	 * across chunks without a file of {@link #CHUNK_SIZE} bytes
+	 *
+	 * @param file
+	 * 		the log file
+	 * @param statuses
+	 * 		the statuses to keep, or null to keep every line
+	 * @param handler
+	 * 		the handler of the kept lines
+	 * @param chunkSize
+	 * 		the largest number of bytes mapped at once
+	 * @throws IOException
+	 * 		if the file cannot be read or contains a line longer than the mapping chunk
+	 */
+	static void forEachLine(Path file, Set<HttpStatus> statuses, LineHandler handler, int chunkSize) throws IOException {
+		read(file, statuses, handler, chunkSize);
+	}
+	
+	/**
+	 * Returns the status of a single log line, or {@link HttpStatus#Unknown} if the line has no readable status. <br>
+	 * The status is the three digit field right after the closing quote of the request field.
+	 *
+	 * @param buffer
+	 * 		the buffer holding the line
+	 * @param from
+	 * 		index of the first byte of the line
+	 * @param to
+	 * 		index after the last byte of the line
+	 * @return the status of the line
+	 */
+	public static HttpStatus extractStatus(ByteBuffer buffer, int from, int to) {
+		int i = from;
+		while (i < to && buffer.get(i) != '"') {
+			i++;
+		}
+		// skip the request field, which may contain escaped quotes
+		for (i++; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b == '\\') {
+				i++;
+			} else if (b == '"') {
+				break;
+			}
+		}
+		// closing quote, space, three digits, then a space or the end of the line
+		int status = i + 2;
+		if (status + 3 > to || buffer.get(i + 1) != ' ' || (status + 3 < to && buffer.get(status + 3) != ' ')) {
+			return HttpStatus.Unknown;
+		}
+		int code = digit(buffer.get(status)) * 100 + digit(buffer.get(status + 1)) * 10 + digit(buffer.get(status + 2));
+		return code < 0 ? HttpStatus.Unknown: HttpStatus.primary(code);
+	}
+	
+	/**
+	 * Returns the value of an ASCII digit, or a value that makes the whole code negative
+	 */
+	private static int digit(byte b) {
+		return b >= '0' && b <= '9' ? b - '0': -1000;
+	}
+	
+	private static void read(Path file, Set<HttpStatus> statuses, LineHandler handler, int chunkSize) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				int length = (int) Math.min(chunkSize, size - position);
+				boolean last = position + length == size;
+				MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				int consumed = readLines(chunk, length, last, statuses, handler);
+				if (consumed == 0) {
+					throw new IOException("line at byte " + position + " is longer than " + chunkSize + " bytes");
+				}
+				position += consumed;
+			}
+		} finally {
+			channel.close();
+		}
+	}
+	
+	/**
+	 * Reads every complete line of a chunk, and the trailing line too if the chunk ends the file
+	 *
+	 * @return the number of bytes read, the next chunk starts right after them
+	 */
+	private static int readLines(ByteBuffer chunk, int length, boolean last, Set<HttpStatus> statuses, LineHandler handler) {
+		ByteBuffer view = chunk.asReadOnlyBuffer();
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			if (chunk.get(i) == '\n') {
+				handle(chunk, view, start, i, statuses, handler);
+				start = i + 1;
+			}
+		}
+		if (last && start < length) {
+			handle(chunk, view, start, length, statuses, handler);
+			start = length;
+		}
+		return start;
+	}
+	
+	private static void handle(ByteBuffer chunk, ByteBuffer view, int start, int end, Set<HttpStatus> statuses, LineHandler handler) {
+		if (end > start && chunk.get(end - 1) == '\r') {
+			end--;
+		}
+		if (end == start) {
+			return;
+		}
+		HttpStatus status = extractStatus(chunk, start, end);
+		if (statuses == null || statuses.contains(status)) {
+			view.limit(end).position(start);
+			handler.line(view, status);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Complete response bodies of every {@link HttpStatus}, rendered once for every {@link MediaType} and shared from then
+ * on, so answering a storm of errors costs no formatting and no allocation beyond a buffer view. <br>
+ * Each media type is rendered on first use by a holder class, together with its gzip compressed twin. A compressed
+ * body is only served when it is actually smaller than the plain one, which is rarely the case for the short json
+ * bodies: check {@link Body#getContentEncoding()} before setting the <code>Content-Encoding</code> header.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 09:50 PM
+ */
+public final class ErrorBodyCache {
+	/**
+	 * Format of a response body
+	 */
+	public enum MediaType {
+		/**
+		 * {@link HttpStatus#getJsonString()}
+		 */
+		JSON("application/json"),
+		/**
+		 * Problem details of RFC 7807, with the <code>about:blank</code> type and the reason phrase as title
+		 */
+		PROBLEM_JSON("application/problem+json"),
+		/**
+		 * Minimal html page with the status line as title and heading, and the description as paragraph
+		 */
+		HTML("text/html; charset=utf-8"),
+		/**
+		 * Status line then description, each on its own line
+		 */
+		TEXT("text/plain; charset=utf-8");
+		
+		private final String contentType;
+		
+		MediaType(String contentType) {
+			this.contentType = contentType;
+		}
+		
+		/**
+		 * Returns the value of the <code>Content-Type</code> header of this media type
+		 *
+		 * @return the content type
+		 */
+		public String getContentType() {
+			return contentType;
+		}
+	}
+	
+	private ErrorBodyCache() {
+	}
+	
+	/**
+	 * Returns the uncompressed body of the supplied status
+	 *
+	 * @param status
+	 * 		the status of the response
+	 * @param type
+	 * 		the media type of the body
+	 * @return the shared body
+	 */
+	public static Body get(HttpStatus status, MediaType type) {
+		return get(status, type, false);
+	}
+	
+	/**
+	 * Returns the body of the supplied status, gzip compressed if the client accepts it and compression makes it smaller
+	 *
+	 * @param status
+	 * 		the status of the response
+	 * @param type
+	 * 		the media type of the body
+	 * @param acceptGzip
+	 * 		true if the request accepts the gzip content encoding
+	 * @return the shared body
+	 */
+	public static Body get(HttpStatus status, MediaType type, boolean acceptGzip) {
+		Body[][] bodies;
+		switch (type) {
+			case JSON:
+				bodies = JsonBodies.BODIES;
+				break;
+			case PROBLEM_JSON:
+				bodies = ProblemBodies.BODIES;
+				break;
+			case HTML:
+				bodies = HtmlBodies.BODIES;
+				break;
+			default:
+				bodies = TextBodies.BODIES;
+		}
+		return bodies[acceptGzip ? 1: 0][status.ordinal()];
+	}
+	
+	/**
+	 * Renders the supplied body of every status, plain at index 0 and best effort gzip at index 1
+	 */
+	private static Body[][] render(MediaType type) {
+		HttpStatus[] values = HttpStatus.values();
+		Body[][] bodies = new Body[2][values.length];
+		for (HttpStatus status : values) {
+			byte[] plain = render(status, type).getBytes(StandardCharsets.UTF_8);
+			byte[] compressed = gzip(plain);
+			bodies[0][status.ordinal()] = new Body(type, null, plain);
+			bodies[1][status.ordinal()] = compressed.length < plain.length ? new Body(type, "gzip", compressed): bodies[0][status.ordinal()];
+		}
+		return bodies;
+	}
+	
+	private static String render(HttpStatus status, MediaType type) {
+		String statusLine = status.getCode() + " " + status.getName();
+		switch (type) {
+			case JSON:
+				return status.getJsonString();
+			case PROBLEM_JSON:
+				return "{\"type\": \"about:blank\", \"title\": \"" + HttpStatus.escapeJson(status.getName()) + "\", \"status\": " + status.getCode() + ", \"detail\": \"" + HttpStatus.escapeJson(status.getDescription()) + "\"}";
+			case HTML:
+				return "<!DOCTYPE html>\n<html><head><title>" + escapeHtml(statusLine) + "</title></head>\n<body><h1>" + escapeHtml(statusLine) + "</h1><p>" + escapeHtml(status.getDescription()) + "</p></body></html>\n";
+			default:
+				return statusLine + "\n" + status.getDescription() + "\n";
+		}
+	}
+	
+	private static String escapeHtml(String text) {
+		StringBuilder builder = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '&':
+					builder.append("&amp;");
+					break;
+				case '<':
+					builder.append("&lt;");
+					break;
+				case '>':
+					builder.append("&gt;");
+					break;
+				case '"':
+					builder.append("&quot;");
+					break;
+				case '\'':
+					builder.append("&#39;");
+					break;
+				default:
+					builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Compresses with the best level, the cost is paid once per body
+	 */
+	private static byte[] gzip(byte[] bytes) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+		try {
+			GZIPOutputStream gzip = new GZIPOutputStream(out) {
+				{
+					def.setLevel(Deflater.BEST_COMPRESSION);
+				}
+			};
+			gzip.write(bytes);
+			gzip.close();
+		} catch (IOException e) {
+			// never thrown by an in-memory stream
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * A rendered response body. <br>
+	 * The content is shared by every caller, {@link #getBuffer()} returns a read-only view with its own position.
+	 */
+	public static final class Body {
+		private final MediaType mediaType;
+		private final String contentEncoding;
+		private final byte[] bytes;
+		private final ByteBuffer buffer;
+		
+		private Body(MediaType mediaType, String contentEncoding, byte[] bytes) {
+			this.mediaType = mediaType;
+			this.contentEncoding = contentEncoding;
+			this.bytes = bytes;
+			this.buffer = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+		}
+		
+		/**
+		 * Returns the media type of this body
+		 *
+		 * @return the media type of this body
+		 */
+		public MediaType getMediaType() {
+			return mediaType;
+		}
+		
+		/**
+		 * Returns the value of the <code>Content-Type</code> header
+		 *
+		 * @return the content type
+		 */
+		public String getContentType() {
+			return mediaType.getContentType();
+		}
+		
+		/**
+		 * Returns the value of the <code>Content-Encoding</code> header
+		 *
+		 * @return <code>gzip</code>, or null if this body is not compressed
+		 */
+		public String getContentEncoding() {
+			return contentEncoding;
+		}
+		
+		/**
+		 * Returns the value of the <code>Content-Length</code> header, the number of bytes sent after any compression
+		 *
+		 * @return the length of this body in bytes
+		 */
+		public int getContentLength() {
+			return bytes.length;
+		}
+		
+		/**
+		 * Returns a read-only view over the bytes of this body, positioned at the start
+		 *
+		 * @return a new view over the shared bytes
+		 */
+		public ByteBuffer getBuffer() {
+			return buffer.duplicate();
+		}
+		
+		/**
+		 * Writes the bytes of this body to the supplied stream
+		 *
+		 * @param out
+		 * 		the stream to write to
+		 * @throws IOException
+		 * 		if the stream fails to write
+		 */
+		public void writeTo(OutputStream out) throws IOException {
+			out.write(bytes);
+		}
+	}
+	
+	private static final class JsonBodies {
+		static final Body[][] BODIES = render(MediaType.JSON);
+	}
+	
+	private static final class ProblemBodies {
+		static final Body[][] BODIES = render(MediaType.PROBLEM_JSON);
+	}
+	
+	private static final class HtmlBodies {
+		static final Body[][] BODIES = render(MediaType.HTML);
+	}
+	
+	private static final class TextBodies {
+		static final Body[][] BODIES = render(MediaType.TEXT);
+	}
+}
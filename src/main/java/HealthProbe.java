@@ -0,0 +1,337 @@
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the status of many endpoints at once, e.g. the health pages of every instance of a fleet. <br>
+ * Every endpoint is fetched with a blocking {@link HttpClient#send(HttpRequest, HttpResponse.BodyHandler)} on its own
+ * virtual thread when the runtime has them (Java 21), or on a pool of {@link #getMaxConcurrency()} platform threads
+ * otherwise. A {@link Semaphore} bounds the number of requests in flight either way: {@link #probeAll(List)} blocks
+ * before starting a request while the bound is reached, so thousands of endpoints never mean thousands of open
+ * connections. Each response is mapped to its {@link HttpStatus} with {@link HttpStatus#primary(int)}.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 10:30 PM
+ */
+public final class HealthProbe implements AutoCloseable {
+	private final HttpClient client;
+	private final int maxConcurrency;
+	private final Duration timeout;
+	private final ExecutorService executor;
+	
+	/**
+	 * Creates a probe with its own {@link HttpClient}
+	 *
+	 * @param maxConcurrency
+	 * 		the largest number of requests in flight at once
+	 * @param timeout
+	 * 		the timeout of the connection and of each request
+	 * @throws IllegalArgumentException
+	 * 		if the concurrency is below 1
+	 */
+	public HealthProbe(int maxConcurrency, Duration timeout) {
+		this(HttpClient.newBuilder().connectTimeout(timeout).followRedirects(HttpClient.Redirect.NEVER).build(), maxConcurrency, timeout);
+	}
+	
+	/**
+	 * Creates a probe that sends its requests through the supplied client
+	 *
+	 * @param client
+	 * 		the client, shared with the caller
+	 * @param maxConcurrency
+	 * 		the largest number of requests in flight at once
+	 * @param timeout
+	 * 		the timeout of each request
+	 * @throws IllegalArgumentException
+	 * 		if the concurrency is below 1
+	 */
+	public HealthProbe(HttpClient client, int maxConcurrency, Duration timeout) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException("concurrency must be at least 1: " + maxConcurrency);
+		}
+		this.client = client;
+		this.maxConcurrency = maxConcurrency;
+		this.timeout = timeout;
+		this.executor = newExecutor(maxConcurrency);
+	}
+	
+	/**
+	 * Returns the largest number of requests in flight at once
+	 *
+	 * @return the concurrency bound
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+	
+	/**
+	 * Fetches a single endpoint on the calling thread
+	 *
+	 * @param uri
+	 * 		the endpoint
+	 * @return the result, never null
+	 * @throws InterruptedException
+	 * 		if the calling thread is interrupted while waiting for the response
+	 */
+	public Result probe(URI uri) throws InterruptedException {
+		long start = System.nanoTime();
+		try {
+			HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			return new Result(uri, response.statusCode(), System.nanoTime() - start, null);
+		} catch (IOException | IllegalArgumentException e) {
+			return new Result(uri, 0, System.nanoTime() - start, e);
+		}
+	}
+	
+	/**
+	 * Fetches every supplied endpoint, at most {@link #getMaxConcurrency()} at a time, and waits for all of them
+	 *
+	 * @param uris
+	 * 		the endpoints
+	 * @return the summary of the results, in the order of the endpoints
+	 * @throws InterruptedException
+	 * 		if the calling thread is interrupted while waiting; requests already started keep running
+	 */
+	public Summary probeAll(List<URI> uris) throws InterruptedException {
+		final Result[] results = new Result[uris.size()];
+		final Semaphore permits = new Semaphore(maxConcurrency);
+		for (int i = 0; i < results.length; i++) {
+			final int index = i;
+			final URI uri = uris.get(i);
+			permits.acquire();
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						results[index] = probe(uri);
+					} catch (InterruptedException e) {
+						results[index] = new Result(uri, 0, 0, e);
+						Thread.currentThread().interrupt();
+					} catch (RuntimeException e) {
+						// e.g. a rejected URI or a failing client, recorded so the summary never sees a missing result
+						results[index] = new Result(uri, 0, 0, e);
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		}
+		// every permit is back once the last request is done, and release happens-before this acquire
+		permits.acquire(maxConcurrency);
+		permits.release(maxConcurrency);
+		return new Summary(results);
+	}
+	
+	/**
+	 * Stops the threads of this probe, the client is left open
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+	
+	/**
+	 * Returns a virtual thread per task executor when the runtime has one, otherwise a pool of daemon threads large
+	 * enough for the concurrency bound. Looked up by reflection so the library still runs on Java 11.
+	 */
+	private static ExecutorService newExecutor(int maxConcurrency) {
+		try {
+			Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) virtual.invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+			// before Java 21, or Java 19 and 20 without preview features
+		}
+		final AtomicInteger count = new AtomicInteger();
+		return Executors.newFixedThreadPool(maxConcurrency, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "health-probe-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+	
+	/**
+	 * Outcome of fetching a single endpoint
+	 */
+	public static final class Result {
+		private final URI uri;
+		private final int code;
+		private final long latencyNanos;
+		private final Exception failure;
+		
+		private Result(URI uri, int code, long latencyNanos, Exception failure) {
+			this.uri = uri;
+			this.code = code;
+			this.latencyNanos = latencyNanos;
+			this.failure = failure;
+		}
+		
+		/**
+		 * Returns the endpoint
+		 *
+		 * @return the endpoint
+		 */
+		public URI getUri() {
+			return uri;
+		}
+		
+		/**
+		 * Returns the status code of the response, as sent by the server
+		 *
+		 * @return the status code, 0 if no response was received
+		 */
+		public int getCode() {
+			return code;
+		}
+		
+		/**
+		 * Returns the status of the response, see {@link HttpStatus#primary(int)}
+		 *
+		 * @return the status, {@link HttpStatus#Unknown} if no response was received
+		 */
+		public HttpStatus getStatus() {
+			return HttpStatus.primary(code);
+		}
+		
+		/**
+		 * Returns the category of the response, from the code itself: a code without a constant counts like the x00
+		 * code of its class, e.g. 290 is a success
+		 *
+		 * @return the category, {@link HttpStatus.Category#UNKNOWN} if no response was received
+		 */
+		public HttpStatus.Category getCategory() {
+			return HttpStatus.Category.of(code);
+		}
+		
+		/**
+		 * Returns the time from sending the request to receiving the response headers, or to the failure
+		 *
+		 * @return the latency in nanoseconds
+		 */
+		public long getLatencyNanos() {
+			return latencyNanos;
+		}
+		
+		/**
+		 * Returns the reason no response was received, e.g. a refused connection or a timeout
+		 *
+		 * @return the failure, or null if a response was received
+		 */
+		public Exception getFailure() {
+			return failure;
+		}
+		
+		/**
+		 * Returns true if no response was received
+		 *
+		 * @return true if the request failed
+		 */
+		public boolean isFailure() {
+			return failure != null;
+		}
+		
+		@Override
+		public String toString() {
+			return uri + " " + (failure != null ? failure.toString(): code + " " + getStatus().getName());
+		}
+	}
+	
+	/**
+	 * Results of a {@link #probeAll(List)} call, counted by status and by category
+	 */
+	public static final class Summary {
+		private final List<Result> results;
+		private final LongStatusTable statuses;
+		private final long[] categories = new long[HttpStatus.Category.values().length];
+		private final long failures;
+		
+		private Summary(Result[] results) {
+			LongStatusTable statuses = new LongStatusTable();
+			long failures = 0;
+			for (Result result : results) {
+				if (result.isFailure()) {
+					failures++;
+				} else {
+					statuses.increment(result.getCode());
+					categories[result.getCategory().ordinal()]++;
+				}
+			}
+			this.results = Collections.unmodifiableList(new ArrayList<Result>(Arrays.asList(results)));
+			this.statuses = statuses.freeze();
+			this.failures = failures;
+		}
+		
+		/**
+		 * Returns every result, in the order of the endpoints
+		 *
+		 * @return an unmodifiable list of the results
+		 */
+		public List<Result> getResults() {
+			return results;
+		}
+		
+		/**
+		 * Returns the number of responses of every status, failed requests are not counted
+		 *
+		 * @return a frozen table of the counts
+		 */
+		public LongStatusTable getStatuses() {
+			return statuses;
+		}
+		
+		/**
+		 * Returns the number of responses of the supplied category
+		 *
+		 * @param category
+		 * 		the category
+		 * @return the number of responses
+		 */
+		public long count(HttpStatus.Category category) {
+			return categories[category.ordinal()];
+		}
+		
+		/**
+		 * Returns the number of requests that received no response
+		 *
+		 * @return the number of failed requests
+		 */
+		public long getFailures() {
+			return failures;
+		}
+		
+		/**
+		 * Returns true if every endpoint answered with a success or redirection status
+		 *
+		 * @return true if every endpoint is healthy
+		 */
+		public boolean isHealthy() {
+			return failures == 0 && count(HttpStatus.Category.SUCCESS) + count(HttpStatus.Category.REDIRECTION) == results.size();
+		}
+		
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			for (HttpStatus.Category category : HttpStatus.Category.values()) {
+				builder.append(category).append('=').append(categories[category.ordinal()]).append(", ");
+			}
+			return builder.append("FAILED=").append(failures).toString();
+		}
+	}
+}
@@ -1,3 +1,8 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -13,6 +18,7 @@ import java.util.*;
  * @since Fri 10/Mar/2017 - 12:19 AM
  */
 public enum HttpStatus {
+	// BEGIN GENERATED CONSTANTS: edit src/main/data/http-status.csv, not this region
 	/**
 	 * <b>Information</b> <br>
 	 * The server has received the request headers and the client should proceed to send the request body (in the case of a request for which a body needs to be sent; for example, a POST request).
@@ -32,7 +38,7 @@ public enum HttpStatus {
 	 * <b>Information</b> <br>
 	 * (ResumableHttpRequestsProposal) Used in the resumable requests proposal to resume aborted PUT or POST requests.
 	 */
-	Checkpoint(103, "Used in the resumable requests proposal to resume aborted PUT or POST requests.[65]"),
+	Checkpoint(103, Source.UNOFFICIAL, "Used in the resumable requests proposal to resume aborted PUT or POST requests.[65]"),
 	/**
 	 * <b>Information</b> <br>
 	 * (Oku, Kazuho) Used to return some response headers before entire HTTP response.
@@ -241,12 +247,12 @@ public enum HttpStatus {
 	 * <b>Client Error</b> <br>
 	 * (Spring Framework) A deprecated response used by the Spring Framework when a method has failed.
 	 */
-	Method_Failure(420, "A deprecated response when a method has failed."),
+	Method_Failure(420, Source.SPRING, "A deprecated response when a method has failed."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (Twitter) Returned by version 1 of the Twitter Search and Trends API when the client is being rate limited; versions 1.1 and later use the 429 Too Many Requests response code instead.
 	 */
-	Enhance_Your_Calm(420, "The client is being rate limited"),
+	Enhance_Your_Calm(420, Source.TWITTER, "The client is being rate limited"),
 	/**
 	 * <b>Client Error</b> <br>
 	 * The request was directed at a server that is not able to produce a response (for example because a connection reuse).
@@ -291,22 +297,22 @@ public enum HttpStatus {
 	 * <b>Client Error</b> <br>
 	 * The client's session has expired and must log in again.
 	 */
-	Login_Time_Out(440, "The client's session has expired."),
+	Login_Time_Out(440, Source.MICROSOFT, "The client's session has expired."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (nginx) Used to indicate that the server has returned no information to the client and closed the connection.
 	 */
-	No_Response(444, "returned no information to the client and closed the connection."),
+	No_Response(444, Source.NGINX, "returned no information to the client and closed the connection."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * The server cannot honour the request because the user has not provided the required information.
 	 */
-	Retry_With(449, "The server cannot honour the request because the user has not provided the required information."),
+	Retry_With(449, Source.MICROSOFT, "The server cannot honour the request because the user has not provided the required information."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (Microsoft) The Microsoft extension code indicated when Windows Parental Controls are turned on and are blocking access to the given webpage.
 	 */
-	Blocked_by_Windows_Parental_Controls(450, "when Windows Parental Controls are turned on and are blocking access to the given webpage."),
+	Blocked_by_Windows_Parental_Controls(450, Source.MICROSOFT, "when Windows Parental Controls are turned on and are blocking access to the given webpage."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * A server operator has received a legal demand to deny access to a resource or to a set of resources that includes the requested resource.[54] The code 451 was chosen as a reference to the novel Fahrenheit 451.
@@ -316,37 +322,37 @@ public enum HttpStatus {
 	 * <b>Client Error</b> <br>
 	 * (Exchange ActiveSync) Used when either a more efficient server is available or the server cannot access the users' mailbox.[79] The client is expected to re-run the HTTP AutoDiscover operation to find a more appropriate server.
 	 */
-	Redirect(451, "Used when either a more efficient server is available or the server cannot access the users' mailbox."),
+	Redirect(451, Source.MICROSOFT, "Used when either a more efficient server is available or the server cannot access the users' mailbox."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (nginx) An expansion of the 400 Bad Request response code, used when the client has provided an invalid client certificate.
 	 */
-	SSL_Certificate_Error(495, "The client has provided an invalid client certificate."),
+	SSL_Certificate_Error(495, Source.NGINX, "The client has provided an invalid client certificate."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (nginx) An expansion of the 400 Bad Request response code, used when a client certificate is required but not provided.
 	 */
-	SSL_Certificate_Required(496, "A client certificate is required but not provided."),
+	SSL_Certificate_Required(496, Source.NGINX, "A client certificate is required but not provided."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (nginx) An expansion of the 400 Bad Request response code, used when the client has made a HTTP request to a port listening for HTTPS requests.
 	 */
-	HTTP_Request_Sent_to_HTTPS_Port(497, "client has made a HTTP request to a port listening for HTTPS requests."),
+	HTTP_Request_Sent_to_HTTPS_Port(497, Source.NGINX, "client has made a HTTP request to a port listening for HTTPS requests."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (ArcGIS Server) indicates an expired or otherwise invalid token.
 	 */
-	Invalid_Token(498, "indicates an expired or otherwise invalid token."),
+	Invalid_Token(498, Source.ESRI, "indicates an expired or otherwise invalid token."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (ArcGIS Server) indicates that a token is required but was not submitted.
 	 */
-	Token_Required(499, "indicates that a token is required but was not submitted."),
+	Token_Required(499, Source.ESRI, "indicates that a token is required but was not submitted."),
 	/**
 	 * <b>Client Error</b> <br>
 	 * (nginx) Used when the client has closed the request before the server could send a response.
 	 */
-	Client_Closed_Request(499, "The client has closed the request before the server could send a response."),
+	Client_Closed_Request(499, Source.NGINX, "The client has closed the request before the server could send a response."),
 	
 	// --------------------------------------------------------------------
 	
@@ -399,7 +405,7 @@ public enum HttpStatus {
 	 * <b>Server Error</b> <br>
 	 * The server has exceeded the bandwidth specified by the server administrator; this is often used by shared hosting providers to limit the bandwidth of customers.
 	 */
-	Bandwidth_Limit_Exceeded(509, "The server has exceeded the bandwidth specified by the server administrator."),
+	Bandwidth_Limit_Exceeded(509, Source.APACHE, "The server has exceeded the bandwidth specified by the server administrator."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * Further extensions to the request are required for the server to fulfill it.
@@ -414,76 +420,185 @@ public enum HttpStatus {
 	 * <b>Server Error</b> <br>
 	 * (The Pantheon web platform) Used to indicate a site that has been frozen due to inactivity.
 	 */
-	Site_is_Frozen(530, "indicate a site that has been frozen due to inactivity."),
+	Site_is_Frozen(530, Source.PANTHEON, "indicate a site that has been frozen due to inactivity."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * Used by some HTTP proxies to signal a network read timeout behind the proxy to a client in front of the proxy.
 	 */
-	Network_read_timeout_error(598, "to signal a network read timeout behind the proxy to a client in front of the proxy."),
+	Network_read_timeout_error(598, Source.UNOFFICIAL, "to signal a network read timeout behind the proxy to a client in front of the proxy."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * Used to indicate when the connection to the network times out.
 	 */
-	Network_connect_timeout_error(599, "indicate when the connection to the network times out."),
+	Network_connect_timeout_error(599, Source.UNOFFICIAL, "indicate when the connection to the network times out."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) The 520 error is used as a "catch-all response for when the origin server returns something unexpected", listing connection resets, large headers, and empty or invalid responses as common triggers.
 	 */
-	Unknown_Error(520, "server returns something unexpected."),
+	Unknown_Error(520, Source.CLOUDFLARE, "server returns something unexpected."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) The origin server has refused the connection from Cloudflare.
 	 */
-	Web_Server_is_Down(521, "refused the connection."),
+	Web_Server_is_Down(521, Source.CLOUDFLARE, "refused the connection."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Cloudflare could not negotiate a TCP handshake with the origin server.
 	 */
-	Connection_Timed_Out(522, "cannot negotiate a TCP handshake with the origin server."),
+	Connection_Timed_Out(522, Source.CLOUDFLARE, "cannot negotiate a TCP handshake with the origin server."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Cloudflare could not reach the origin server; for example, if the DNS records for the origin server are incorrect.
 	 */
-	Origin_is_Unreachable(523, "cannot reach the origin server"),
+	Origin_is_Unreachable(523, Source.CLOUDFLARE, "cannot reach the origin server"),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Cloudflare was able to complete a TCP connection to the origin server, but did not receive a timely HTTP response.
 	 */
-	A_Timeout_Occurred(524, "did not receive a timely HTTP response."),
+	A_Timeout_Occurred(524, Source.CLOUDFLARE, "did not receive a timely HTTP response."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Cloudflare could not negotiate a SSL/TLS handshake with the origin server.
 	 */
-	SSL_Handshake_Failed(525, "cannot negotiate a SSL/TLS handshake with the origin server."),
+	SSL_Handshake_Failed(525, Source.CLOUDFLARE, "cannot negotiate a SSL/TLS handshake with the origin server."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Cloudflare could not validate the SSL/TLS certificate that the origin server presented.
 	 */
-	Invalid_SSL_Certificate(526, "cannot validate the SSL/TLS certificate that the origin server presented."),
+	Invalid_SSL_Certificate(526, Source.CLOUDFLARE, "cannot validate the SSL/TLS certificate that the origin server presented."),
 	/**
 	 * <b>Server Error</b> <br>
 	 * (Cloudflare) Error 527 indicates that the requests timeout or failed after the WAN connection has been established.
 	 */
-	Railgun_Error(527, "The requests timeout or failed after the WAN connection has been established."),
-	
+	Railgun_Error(527, Source.CLOUDFLARE, "The requests timeout or failed after the WAN connection has been established."),
 	
 	// --------------------------------------------------------------------
 	
 	/**
 	 * unknown code or not import yet.
 	 */
-	Unknown(999, "Unknown or unsupported HTTP status code");
+	Unknown(999, Source.UNOFFICIAL, "Unknown or unsupported HTTP status code");
+	// END GENERATED CONSTANTS
 	
 	private final int code;
-	private final String name;
 	private final String description;
-	private final String jsonString;
+	private final Category category;
+	private final boolean retryable;
+	private final boolean cacheable;
+	private final Source source;
+	
+	/**
+	 * Smallest code covered by the lookup table, shared with the code-indexed tables of other classes
+	 */
+	static final int MIN_CODE = 100;
+	/**
+	 * Largest code covered by the lookup table, shared with the code-indexed tables of other classes
+	 */
+	static final int MAX_CODE = 999;
+	/**
+	 * Shared result for every code that has no matching constant
+	 */
+	private static final HttpStatus[] UNKNOWN_RESULT = new HttpStatus[]{Unknown};
+	/**
+	 * Pre-built {@link #getByCode(int)} result for every code from {@link #MIN_CODE} to {@link #MAX_CODE}, in declaration order
+	 */
+	private static final HttpStatus[][] BY_CODE = new HttpStatus[MAX_CODE - MIN_CODE + 1][];
+	/**
+	 * {@link #primary(int)} of every code from {@link #MIN_CODE} to {@link #MAX_CODE}. Kept apart from {@link #BY_CODE},
+	 * whose arrays are handed out to callers, so that a caller writing into one cannot change what everyone else reads.
+	 */
+	private static final HttpStatus[] PRIMARY = new HttpStatus[MAX_CODE - MIN_CODE + 1];
+	/**
+	 * Every constant of each category
+	 */
+	private static final Map<Category, Set<HttpStatus>> BY_CATEGORY = new EnumMap<Category, Set<HttpStatus>>(Category.class);
+	
+	static {
+		for (HttpStatus status : HttpStatus.values()) {
+			int index = status.code - MIN_CODE;
+			HttpStatus[] current = BY_CODE[index];
+			if (current == null) {
+				BY_CODE[index] = new HttpStatus[]{status};
+			} else {
+				HttpStatus[] grown = Arrays.copyOf(current, current.length + 1);
+				grown[current.length] = status;
+				BY_CODE[index] = grown;
+			}
+		}
+		for (int i = 0; i < BY_CODE.length; i++) {
+			if (BY_CODE[i] == null) {
+				BY_CODE[i] = UNKNOWN_RESULT;
+			}
+			PRIMARY[i] = BY_CODE[i][0];
+		}
+		for (Category category : Category.values()) {
+			EnumSet<HttpStatus> members = EnumSet.noneOf(HttpStatus.class);
+			for (HttpStatus status : HttpStatus.values()) {
+				if (status.category == category) {
+					members.add(status);
+				}
+			}
+			BY_CATEGORY.put(category, Collections.unmodifiableSet(members));
+		}
+	}
 	
 	private HttpStatus(int code, String description) {
+		this(code, Source.IANA, description);
+	}
+	
+	private HttpStatus(int code, Source source, String description) {
 		this.code = code;
-		this.name = this.name().replace("_", " ");
+		this.source = source;
 		this.description = description;
-		this.jsonString = generateJsonString();
+		this.category = Category.of(code);
+		this.retryable = isRetryableCode(code);
+		this.cacheable = isCacheableCode(code);
+	}
+	
+	/**
+	 * Returns true if a request that failed with this code is usually safe to retry later: timeouts, rate limiting
+	 * and an unavailable or unreachable upstream.
+	 */
+	private static boolean isRetryableCode(int code) {
+		switch (code) {
+			case 408:
+			case 429:
+			case 502:
+			case 503:
+			case 504:
+			case 521:
+			case 522:
+			case 523:
+			case 524:
+			case 598:
+			case 599:
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Returns true if this code is cacheable by default (RFC 7231 section 6.1 and RFC 7538)
+	 */
+	private static boolean isCacheableCode(int code) {
+		switch (code) {
+			case 200:
+			case 203:
+			case 204:
+			case 206:
+			case 300:
+			case 301:
+			case 308:
+			case 404:
+			case 405:
+			case 410:
+			case 414:
+			case 501:
+				return true;
+			default:
+				return false;
+		}
 	}
 	
 	/**
@@ -501,7 +616,7 @@ public enum HttpStatus {
 	 * @return the name of the HTTP status this enum represents
 	 */
 	public final String getName() {
-		return name;
+		return Names.NAMES[ordinal()];
 	}
 	
 	/**
@@ -513,30 +628,429 @@ public enum HttpStatus {
 		return description;
 	}
 	
+	/**
+	 * Returns the category of the HTTP status this enum represents
+	 *
+	 * @return the category of the HTTP status this enum represents
+	 */
+	public final Category getCategory() {
+		return category;
+	}
+	
+	/**
+	 * Returns true if this is a 1xx status
+	 *
+	 * @return true if this is a 1xx status
+	 */
+	public final boolean isInformational() {
+		return category == Category.INFORMATIONAL;
+	}
+	
+	/**
+	 * Returns true if this is a 2xx status
+	 *
+	 * @return true if this is a 2xx status
+	 */
+	public final boolean isSuccess() {
+		return category == Category.SUCCESS;
+	}
+	
+	/**
+	 * Returns true if this is a 3xx status
+	 *
+	 * @return true if this is a 3xx status
+	 */
+	public final boolean isRedirect() {
+		return category == Category.REDIRECTION;
+	}
+	
+	/**
+	 * Returns true if this is a 4xx status
+	 *
+	 * @return true if this is a 4xx status
+	 */
+	public final boolean isClientError() {
+		return category == Category.CLIENT_ERROR;
+	}
+	
+	/**
+	 * Returns true if this is a 5xx status
+	 *
+	 * @return true if this is a 5xx status
+	 */
+	public final boolean isServerError() {
+		return category == Category.SERVER_ERROR;
+	}
+	
+	/**
+	 * Returns true if a request that failed with this status is usually safe to retry later,
+	 * e.g. Request_Timeout, Too_Many_Requests, Service_Unavailable or Gateway_Timeout
+	 *
+	 * @return true if the request can be retried
+	 */
+	public final boolean retryable() {
+		return retryable;
+	}
+	
+	/**
+	 * Returns true if a response with this status is cacheable by default, without explicit freshness information
+	 *
+	 * @return true if the response is cacheable by default
+	 */
+	public final boolean cacheable() {
+		return cacheable;
+	}
+	
+	/**
+	 * Returns who defines the HTTP status this enum represents
+	 *
+	 * @return the source of the HTTP status this enum represents
+	 */
+	public final Source getSource() {
+		return source;
+	}
+	
 	/**
 	 * Returns a json string representing this main.java.HttpStatus
 	 *
 	 * @return a json string representing this main.java.HttpStatus
 	 */
 	public final String getJsonString() {
-		return jsonString;
+		return Json.STRINGS[ordinal()];
+	}
+	
+	/**
+	 * Returns a copy of the UTF-8 encoded {@link #getJsonString()}
+	 *
+	 * @return a UTF-8 encoded json representing this main.java.HttpStatus
+	 */
+	public final byte[] getJsonBytes() {
+		return Json.BYTES[ordinal()].clone();
+	}
+	
+	/**
+	 * Returns a read-only view of the UTF-8 encoded {@link #getJsonString()}. <br>
+	 * Every call returns a new view with its own position and limit, the bytes themselves are shared and never copied.
+	 *
+	 * @return a read-only buffer over the json representing this main.java.HttpStatus
+	 */
+	public final ByteBuffer getJsonBuffer() {
+		return Json.BUFFERS[ordinal()].duplicate();
+	}
+	
+	/**
+	 * Writes the UTF-8 encoded {@link #getJsonString()} to the supplied stream
+	 *
+	 * @param out
+	 * 		the stream to write to
+	 * @throws IOException
+	 * 		if the stream fails to write
+	 */
+	public final void writeJson(OutputStream out) throws IOException {
+		out.write(Json.BYTES[ordinal()]);
+	}
+	
+	/**
+	 * Writes the UTF-8 encoded {@link #getJsonString()} to the supplied channel, blocking until every byte is written.
+	 * Non-blocking channels should write {@link #getJsonBuffer()} from their own selector loop instead.
+	 *
+	 * @param channel
+	 * 		the channel to write to
+	 * @throws IOException
+	 * 		if the channel fails to write
+	 */
+	public final void writeJson(WritableByteChannel channel) throws IOException {
+		ByteBuffer buffer = Json.BUFFERS[ordinal()].duplicate();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+	
+	/**
+	 * Appends {@link #getJsonString()} to the supplied builder, without creating any intermediate String
+	 *
+	 * @param builder
+	 * 		the builder to append to
+	 * @return the supplied builder
+	 */
+	public final StringBuilder appendTo(StringBuilder builder) {
+		return builder.append(Json.STRINGS[ordinal()]);
+	}
+	
+	/**
+	 * Appends {@link #getJsonString()} to the supplied appendable, e.g. the reusable buffer of a log framework
+	 *
+	 * @param appendable
+	 * 		the appendable to append to
+	 * @param <A>
+	 * 		the type of the appendable
+	 * @return the supplied appendable
+	 * @throws IOException
+	 * 		if the appendable fails to append
+	 */
+	public final <A extends Appendable> A appendTo(A appendable) throws IOException {
+		appendable.append(Json.STRINGS[ordinal()]);
+		return appendable;
+	}
+	
+	/**
+	 * Appends the pretty json of {@link #toString()} to the supplied builder, without creating any intermediate String
+	 *
+	 * @param builder
+	 * 		the builder to append to
+	 * @return the supplied builder
+	 */
+	public final StringBuilder appendPrettyTo(StringBuilder builder) {
+		return builder.append(Json.PRETTY[ordinal()]);
+	}
+	
+	/**
+	 * Appends the pretty json of {@link #toString()} to the supplied appendable
+	 *
+	 * @param appendable
+	 * 		the appendable to append to
+	 * @param <A>
+	 * 		the type of the appendable
+	 * @return the supplied appendable
+	 * @throws IOException
+	 * 		if the appendable fails to append
+	 */
+	public final <A extends Appendable> A appendPrettyTo(A appendable) throws IOException {
+		appendable.append(Json.PRETTY[ordinal()]);
+		return appendable;
+	}
+	
+	/**
+	 * Returns the length in bytes of the status line of this main.java.HttpStatus, including the trailing CRLF
+	 *
+	 * @param version
+	 * 		the HTTP version of the status line
+	 * @return the length of the status line
+	 */
+	public final int getStatusLineLength(Version version) {
+		return StatusLines.LINES[version.ordinal()][ordinal()].length;
+	}
+	
+	/**
+	 * Copies the status line of this main.java.HttpStatus (e.g. <code>HTTP/1.1 404 Not Found\r\n</code>) into the supplied array
+	 *
+	 * @param version
+	 * 		the HTTP version of the status line
+	 * @param destination
+	 * 		the array to copy into
+	 * @param offset
+	 * 		index in the array of the first byte to copy
+	 * @return the number of bytes copied
+	 * @throws IndexOutOfBoundsException
+	 * 		if the array has not enough room after <code>offset</code>
+	 */
+	public final int copyStatusLine(Version version, byte[] destination, int offset) {
+		byte[] line = StatusLines.LINES[version.ordinal()][ordinal()];
+		System.arraycopy(line, 0, destination, offset, line.length);
+		return line.length;
+	}
+	
+	/**
+	 * Puts the status line of this main.java.HttpStatus (e.g. <code>HTTP/1.1 404 Not Found\r\n</code>) into the
+	 * supplied buffer at its current position, then advances the position
+	 *
+	 * @param version
+	 * 		the HTTP version of the status line
+	 * @param destination
+	 * 		the buffer to put into
+	 * @throws java.nio.BufferOverflowException
+	 * 		if the buffer has not enough remaining room
+	 */
+	public final void putStatusLine(Version version, ByteBuffer destination) {
+		destination.put(StatusLines.LINES[version.ordinal()][ordinal()]);
+	}
+	
+	/**
+	 * Returns the length in bytes of the encoded <code>:status</code> pseudo-header field of this main.java.HttpStatus
+	 *
+	 * @param encoding
+	 * 		the header compression format
+	 * @return the length of the encoded field
+	 */
+	public final int getStatusFieldLength(FieldEncoding encoding) {
+		return StatusFields.FIELDS[encoding.ordinal()][ordinal()].length;
+	}
+	
+	/**
+	 * Returns true if the <code>:status</code> pseudo-header field of this main.java.HttpStatus is a single reference
+	 * into the static table of the supplied format, rather than a literal
+	 *
+	 * @param encoding
+	 * 		the header compression format
+	 * @return true if the field is in the static table
+	 */
+	public final boolean isStatusFieldIndexed(FieldEncoding encoding) {
+		return encoding.staticIndex(code) > 0;
+	}
+	
+	/**
+	 * Copies the encoded <code>:status</code> pseudo-header field of this main.java.HttpStatus into the supplied array
+	 *
+	 * @param encoding
+	 * 		the header compression format
+	 * @param destination
+	 * 		the array to copy into
+	 * @param offset
+	 * 		index in the array of the first byte to copy
+	 * @return the number of bytes copied
+	 * @throws IndexOutOfBoundsException
+	 * 		if the array has not enough room after <code>offset</code>
+	 */
+	public final int copyStatusField(FieldEncoding encoding, byte[] destination, int offset) {
+		byte[] field = StatusFields.FIELDS[encoding.ordinal()][ordinal()];
+		System.arraycopy(field, 0, destination, offset, field.length);
+		return field.length;
+	}
+	
+	/**
+	 * Puts the encoded <code>:status</code> pseudo-header field of this main.java.HttpStatus into the supplied buffer
+	 * at its current position, then advances the position
+	 *
+	 * @param encoding
+	 * 		the header compression format
+	 * @param destination
+	 * 		the buffer to put into
+	 * @throws java.nio.BufferOverflowException
+	 * 		if the buffer has not enough remaining room
+	 */
+	public final void putStatusField(FieldEncoding encoding, ByteBuffer destination) {
+		destination.put(StatusFields.FIELDS[encoding.ordinal()][ordinal()]);
+	}
+	
+	/**
+	 * Returns the length in bytes of the reason phrase of this main.java.HttpStatus
+	 *
+	 * @return the length of the reason phrase
+	 */
+	public final int getReasonPhraseLength() {
+		return Names.REASON_PHRASES[ordinal()].length;
 	}
 	
 	/**
-	 * Returns the main.java.HttpStatus object with a code matching the supplied int
+	 * Copies the reason phrase of this main.java.HttpStatus, which is {@link #getName()} in ISO-8859-1, into the supplied array
+	 *
+	 * @param destination
+	 * 		the array to copy into
+	 * @param offset
+	 * 		index in the array of the first byte to copy
+	 * @return the number of bytes copied
+	 * @throws IndexOutOfBoundsException
+	 * 		if the array has not enough room after <code>offset</code>
+	 */
+	public final int copyReasonPhrase(byte[] destination, int offset) {
+		byte[] reasonPhrase = Names.REASON_PHRASES[ordinal()];
+		System.arraycopy(reasonPhrase, 0, destination, offset, reasonPhrase.length);
+		return reasonPhrase.length;
+	}
+	
+	/**
+	 * Puts the reason phrase of this main.java.HttpStatus, which is {@link #getName()} in ISO-8859-1, into the
+	 * supplied buffer at its current position, then advances the position
+	 *
+	 * @param destination
+	 * 		the buffer to put into
+	 * @throws java.nio.BufferOverflowException
+	 * 		if the buffer has not enough remaining room
+	 */
+	public final void putReasonPhrase(ByteBuffer destination) {
+		destination.put(Names.REASON_PHRASES[ordinal()]);
+	}
+	
+	/**
+	 * Returns every main.java.HttpStatus of the supplied category
+	 *
+	 * @param category
+	 * 		the category
+	 * @return an unmodifiable set of every Http Status of the category
+	 */
+	public static Set<HttpStatus> getByCategory(Category category) {
+		return BY_CATEGORY.get(category);
+	}
+	
+	/**
+	 * Returns the main.java.HttpStatus whose name or reason phrase matches the supplied text, ignoring case and
+	 * treating space, underscore and hyphen as the same character, so "Not Found", "not_found" and "NOT-FOUND" all
+	 * return main.java.HttpStatus.Not_Found. Returns main.java.HttpStatus.Unknown if nothing matches. Never allocates.
+	 *
+	 * @param name
+	 * 		the name or reason phrase to match
+	 * @return the Http Status for the supplied name
+	 */
+	public static HttpStatus getByName(CharSequence name) {
+		if (name == null) {
+			return Unknown;
+		}
+		int length = name.length();
+		int hash = 0;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + NameIndex.normalize(name.charAt(i));
+		}
+		int mask = NameIndex.KEYS.length - 1;
+		for (int slot = NameIndex.spread(hash) & mask; NameIndex.KEYS[slot] != null; slot = (slot + 1) & mask) {
+			if (NameIndex.HASHES[slot] == hash && NameIndex.matches(NameIndex.KEYS[slot], name)) {
+				return NameIndex.STATUSES[slot];
+			}
+		}
+		return Unknown;
+	}
+	
+	/**
+	 * Returns the pre-built lookup table over the main.java.HttpStatus of the supplied source only,
+	 * e.g. <code>HttpStatus.lookup(Source.IANA).get(499)</code> is main.java.HttpStatus.Unknown
+	 *
+	 * @param source
+	 * 		the source
+	 * @return the lookup table of the source
+	 */
+	public static Lookup lookup(Source source) {
+		return SourceLookups.BY_SOURCE.get(source);
+	}
+	
+	/**
+	 * Returns the main.java.HttpStatus object with a code matching the supplied int. <br>
+	 * The result is pre-built and shared between callers, so it <b>must not</b> be modified. Codes used by more than one
+	 * constant (103, 420, 451 and 499) always return their constants in declaration order.
 	 *
 	 * @param httpStatus
 	 * 		the httpStatus code
 	 * @return the Http Status object with a code matching the supplied int
 	 */
 	public static HttpStatus[] getByCode(int httpStatus) {
-		ArrayList<HttpStatus> statusList = new ArrayList<HttpStatus>();
-		for (HttpStatus status : HttpStatus.values()) {
-			if (status.getCode() == httpStatus) {
-				statusList.add(status);
-			}
+		if (httpStatus < MIN_CODE || httpStatus > MAX_CODE) {
+			return UNKNOWN_RESULT;
+		}
+		return BY_CODE[httpStatus - MIN_CODE];
+	}
+	
+	/**
+	 * Returns the first main.java.HttpStatus (in declaration order) with a code matching the supplied int,
+	 * or main.java.HttpStatus.Unknown if no constant uses that code.
+	 *
+	 * @param httpStatus
+	 * 		the httpStatus code
+	 * @return the primary Http Status for the supplied int
+	 */
+	public static HttpStatus primary(int httpStatus) {
+		if (httpStatus < MIN_CODE || httpStatus > MAX_CODE) {
+			return Unknown;
 		}
-		return statusList.size() == 0 ? new HttpStatus[]{Unknown}: statusList.toArray(new HttpStatus[statusList.size()]);
+		return PRIMARY[httpStatus - MIN_CODE];
+	}
+	
+	/**
+	 * Returns the ordinal of {@link #primary(int)}, for the tables of other classes that are indexed by ordinal
+	 *
+	 * @param httpStatus
+	 * 		the httpStatus code
+	 * @return the ordinal of the primary Http Status for the supplied int
+	 */
+	static int primaryOrdinal(int httpStatus) {
+		return primary(httpStatus).ordinal();
 	}
 	
 	/**
@@ -549,13 +1063,106 @@ public enum HttpStatus {
 	 * @return the Http Status for the supplied String
 	 */
 	public static HttpStatus[] getByCode(String httpStatus) {
-		int statusCode;
-		try {
-			statusCode = Integer.parseInt(httpStatus);
-		} catch (NumberFormatException e) {
-			return new HttpStatus[]{Unknown};
+		return getByCode((CharSequence) httpStatus);
+	}
+	
+	/**
+	 * Returns the main.java.HttpStatus with the Integer code that matches the supplied
+	 * CharSequence. Accepts the same input as {@link Integer#parseInt(String)} but never throws;
+	 * Returns main.java.HttpStatus.Unknown if the input is not a valid Integer or is not in the list
+	 * of available HTTP status codes.
+	 *
+	 * @param httpStatus
+	 * 		the CharSequence containing the status code to match
+	 * @return the Http Status for the supplied CharSequence
+	 */
+	public static HttpStatus[] getByCode(CharSequence httpStatus) {
+		if (httpStatus == null) {
+			return UNKNOWN_RESULT;
+		}
+		int length = httpStatus.length();
+		if (length == 3) {
+			int code = parseDigits(httpStatus.charAt(0), httpStatus.charAt(1), httpStatus.charAt(2));
+			if (code >= 0) {
+				return getByCode(code);
+			}
+		}
+		
+		int i = 0;
+		boolean negative = false;
+		if (length > 0 && (httpStatus.charAt(0) == '-' || httpStatus.charAt(0) == '+')) {
+			negative = httpStatus.charAt(0) == '-';
+			i++;
+		}
+		if (i == length) {
+			return UNKNOWN_RESULT;
+		}
+		int code = 0;
+		for (; i < length; i++) {
+			int digit = Character.digit(httpStatus.charAt(i), 10);
+			if (digit < 0) {
+				return UNKNOWN_RESULT;
+			}
+			code = code * 10 + digit;
+			// anything above MAX_CODE is unknown whatever follows, stop before the value can overflow
+			if (code > MAX_CODE) {
+				return UNKNOWN_RESULT;
+			}
+		}
+		return negative ? UNKNOWN_RESULT: getByCode(code);
+	}
+	
+	/**
+	 * Returns the main.java.HttpStatus with the code written as three ASCII digits
+	 * starting at <code>offset</code>, as found in an HTTP status line. Returns
+	 * main.java.HttpStatus.Unknown if there are less than three bytes left or any of
+	 * them is not an ASCII digit.
+	 *
+	 * @param bytes
+	 * 		the bytes containing the status code
+	 * @param offset
+	 * 		index of the first digit
+	 * @return the Http Status for the supplied bytes
+	 */
+	public static HttpStatus[] getByCode(byte[] bytes, int offset) {
+		if (bytes == null || offset < 0 || offset > bytes.length - 3) {
+			return UNKNOWN_RESULT;
 		}
-		return getByCode(statusCode);
+		int code = parseDigits(bytes[offset], bytes[offset + 1], bytes[offset + 2]);
+		return code < 0 ? UNKNOWN_RESULT: getByCode(code);
+	}
+	
+	/**
+	 * Returns the main.java.HttpStatus with the code written as three ASCII digits
+	 * starting at the buffer's current position. The position of the buffer is not
+	 * changed. Returns main.java.HttpStatus.Unknown if there are less than three bytes
+	 * remaining or any of them is not an ASCII digit.
+	 *
+	 * @param buffer
+	 * 		the buffer containing the status code
+	 * @return the Http Status for the supplied buffer
+	 */
+	public static HttpStatus[] getByCode(ByteBuffer buffer) {
+		if (buffer == null || buffer.remaining() < 3) {
+			return UNKNOWN_RESULT;
+		}
+		int position = buffer.position();
+		int code = parseDigits(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2));
+		return code < 0 ? UNKNOWN_RESULT: getByCode(code);
+	}
+	
+	/**
+	 * Returns the value of three ASCII digits, or -1 if any of them is not a digit
+	 */
+	private static int parseDigits(int hundreds, int tens, int units) {
+		hundreds -= '0';
+		tens -= '0';
+		units -= '0';
+		// a negative value in any digit sets the sign bit, anything above 9 fails the range check
+		if ((hundreds | tens | units) < 0 || hundreds > 9 || tens > 9 || units > 9) {
+			return -1;
+		}
+		return hundreds * 100 + tens * 10 + units;
 	}
 	
 	/**
@@ -564,11 +1171,496 @@ public enum HttpStatus {
 	 * @return a json string representing this main.java.HttpStatus
 	 */
 	public String generateJsonString() {
-		return String.format("{\"code\": %s, \"name\": \"%s\", \"description\": \"%s\"}", code, name, description);
+		return "{\"code\": " + code + ", \"name\": \"" + escapeJson(getName()) + "\", \"description\": \"" + escapeJson(description) + "\"}";
 	}
 	
+	/**
+	 * Returns a pretty printed json representing this main.java.HttpStatus. <br>
+	 * The string is built at compile time and shared, so logging a status costs no formatting.
+	 *
+	 * @return a pretty printed json representing this main.java.HttpStatus
+	 */
 	@Override
 	public String toString() {
-		return String.format("{\n\t\"code\": %s, \n\t\"name\": \"%s\", \n\t\"description\": \"%s\"}", code, name, description);
+		return Json.PRETTY[ordinal()];
+	}
+	
+	/**
+	 * Escapes the supplied text to be used inside a json string
+	 *
+	 * @param text
+	 * 		the text to escape
+	 * @return the escaped text, without surrounding quotes
+	 */
+	static String escapeJson(String text) {
+		StringBuilder builder = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					} else {
+						builder.append(c);
+					}
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Names and reason phrases of every constant, index is the ordinal. <br>
+	 * Rendered forms are kept in holder classes so that they are built on first use rather than during class
+	 * initialization; the JVM initializes a holder exactly once and publishes it safely to every thread.
+	 */
+	private static final class Names {
+		static final String[] NAMES;
+		static final byte[][] REASON_PHRASES;
+		
+		static {
+			NAMES = HttpStatusData.NAMES;
+			REASON_PHRASES = new byte[NAMES.length][];
+			for (HttpStatus status : HttpStatus.values()) {
+				REASON_PHRASES[status.ordinal()] = NAMES[status.ordinal()].getBytes(StandardCharsets.ISO_8859_1);
+			}
+		}
+	}
+	
+	/**
+	 * Json of every constant as String, UTF-8 bytes and read-only buffer over those bytes, and the pretty json of
+	 * {@link #toString()}, index is the ordinal
+	 */
+	private static final class Json {
+		static final String[] STRINGS;
+		static final String[] PRETTY = HttpStatusData.PRETTY;
+		static final byte[][] BYTES;
+		static final ByteBuffer[] BUFFERS;
+		
+		static {
+			HttpStatus[] values = HttpStatus.values();
+			STRINGS = new String[values.length];
+			BYTES = new byte[values.length][];
+			BUFFERS = new ByteBuffer[values.length];
+			for (HttpStatus status : values) {
+				STRINGS[status.ordinal()] = HttpStatusData.JSON[status.ordinal()];
+				BYTES[status.ordinal()] = STRINGS[status.ordinal()].getBytes(StandardCharsets.UTF_8);
+				BUFFERS[status.ordinal()] = ByteBuffer.wrap(BYTES[status.ordinal()]).asReadOnlyBuffer();
+			}
+		}
+	}
+	
+	/**
+	 * Status line of every constant, indexed by version ordinal then by constant ordinal
+	 */
+	private static final class StatusLines {
+		static final byte[][][] LINES;
+		
+		static {
+			HttpStatus[] values = HttpStatus.values();
+			LINES = new byte[Version.values().length][values.length][];
+			for (Version version : Version.values()) {
+				for (HttpStatus status : values) {
+					String line = version.getText() + " " + status.code + " " + status.getName() + "\r\n";
+					LINES[version.ordinal()][status.ordinal()] = line.getBytes(StandardCharsets.ISO_8859_1);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Open addressing hash table from normalized name to constant, see {@link #getByName(CharSequence)}
+	 */
+	private static final class NameIndex {
+		static final String[] KEYS;
+		static final int[] HASHES;
+		static final HttpStatus[] STATUSES;
+		
+		static {
+			HttpStatus[] values = HttpStatus.values();
+			// at most a quarter full, so a miss usually stops at the first empty slot
+			int size = Integer.highestOneBit(values.length * 4 - 1) << 1;
+			KEYS = new String[size];
+			HASHES = new int[size];
+			STATUSES = new HttpStatus[size];
+			for (HttpStatus status : values) {
+				String name = status.name();
+				char[] key = new char[name.length()];
+				int hash = 0;
+				for (int i = 0; i < key.length; i++) {
+					key[i] = normalize(name.charAt(i));
+					hash = 31 * hash + key[i];
+				}
+				int slot = spread(hash) & (size - 1);
+				while (KEYS[slot] != null) {
+					slot = (slot + 1) & (size - 1);
+				}
+				KEYS[slot] = new String(key);
+				HASHES[slot] = hash;
+				STATUSES[slot] = status;
+			}
+		}
+		
+		/**
+		 * Lower cases ASCII letters and maps space and hyphen to underscore
+		 */
+		static char normalize(char c) {
+			if (c >= 'A' && c <= 'Z') {
+				return (char) (c + ('a' - 'A'));
+			}
+			if (c == ' ' || c == '-') {
+				return '_';
+			}
+			return c;
+		}
+		
+		static int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+		
+		static boolean matches(String key, CharSequence name) {
+			if (key.length() != name.length()) {
+				return false;
+			}
+			for (int i = 0; i < key.length(); i++) {
+				if (key.charAt(i) != normalize(name.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Encoded <code>:status</code> field of every constant, indexed by encoding ordinal then by constant ordinal
+	 */
+	private static final class StatusFields {
+		static final byte[][][] FIELDS;
+		
+		static {
+			HttpStatus[] values = HttpStatus.values();
+			FIELDS = new byte[FieldEncoding.values().length][values.length][];
+			for (FieldEncoding encoding : FieldEncoding.values()) {
+				for (HttpStatus status : values) {
+					FIELDS[encoding.ordinal()][status.ordinal()] = encoding.encode(status.code);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Lookup table of the constants of each source
+	 */
+	private static final class SourceLookups {
+		static final Map<Source, Lookup> BY_SOURCE = new EnumMap<Source, Lookup>(Source.class);
+		
+		static {
+			for (Source source : Source.values()) {
+				BY_SOURCE.put(source, new Lookup(EnumSet.of(source)));
+			}
+		}
+	}
+	
+	/**
+	 * Class of an HTTP status, given by the first digit of its code
+	 */
+	public enum Category {
+		/**
+		 * 1xx
+		 */
+		INFORMATIONAL,
+		/**
+		 * 2xx
+		 */
+		SUCCESS,
+		/**
+		 * 3xx
+		 */
+		REDIRECTION,
+		/**
+		 * 4xx
+		 */
+		CLIENT_ERROR,
+		/**
+		 * 5xx
+		 */
+		SERVER_ERROR,
+		/**
+		 * any code outside 1xx to 5xx
+		 */
+		UNKNOWN;
+		
+		/**
+		 * Returns the category of the supplied code
+		 *
+		 * @param code
+		 * 		the status code
+		 * @return the category of the code
+		 */
+		public static Category of(int code) {
+			switch (code / 100) {
+				case 1:
+					return INFORMATIONAL;
+				case 2:
+					return SUCCESS;
+				case 3:
+					return REDIRECTION;
+				case 4:
+					return CLIENT_ERROR;
+				case 5:
+					return SERVER_ERROR;
+				default:
+					return UNKNOWN;
+			}
+		}
+	}
+	
+	/**
+	 * Who defines an HTTP status
+	 */
+	public enum Source {
+		/**
+		 * Registered in the IANA HTTP Status Code Registry
+		 */
+		IANA,
+		/**
+		 * nginx web server
+		 */
+		NGINX,
+		/**
+		 * Cloudflare reverse proxy
+		 */
+		CLOUDFLARE,
+		/**
+		 * Microsoft IIS and Exchange ActiveSync
+		 */
+		MICROSOFT,
+		/**
+		 * Twitter Search and Trends API
+		 */
+		TWITTER,
+		/**
+		 * Spring Framework
+		 */
+		SPRING,
+		/**
+		 * Esri ArcGIS Server
+		 */
+		ESRI,
+		/**
+		 * Apache Web Server and cPanel
+		 */
+		APACHE,
+		/**
+		 * The Pantheon web platform
+		 */
+		PANTHEON,
+		/**
+		 * Used in the wild or in a proposal, without a single owner
+		 */
+		UNOFFICIAL
+	}
+	
+	/**
+	 * Dense lookup table from code to a single main.java.HttpStatus, restricted to some sources. <br>
+	 * When several constants of those sources share a code, the first one in declaration order wins.
+	 */
+	public static final class Lookup {
+		private final HttpStatus[] table = new HttpStatus[MAX_CODE - MIN_CODE + 1];
+		
+		/**
+		 * Builds a lookup table over the constants of the supplied sources.
+		 * The table of a single source is already built, see {@link HttpStatus#lookup(Source)}.
+		 *
+		 * @param sources
+		 * 		the sources to include
+		 */
+		public Lookup(Set<Source> sources) {
+			Arrays.fill(table, Unknown);
+			HttpStatus[] values = HttpStatus.values();
+			// walk backwards so the first constant in declaration order is the one left in the table
+			for (int i = values.length - 1; i >= 0; i--) {
+				HttpStatus status = values[i];
+				if (sources.contains(status.source)) {
+					table[status.code - MIN_CODE] = status;
+				}
+			}
+		}
+		
+		/**
+		 * Returns the main.java.HttpStatus with a code matching the supplied int,
+		 * or main.java.HttpStatus.Unknown if none of the sources uses that code
+		 *
+		 * @param httpStatus
+		 * 		the httpStatus code
+		 * @return the Http Status for the supplied int
+		 */
+		public HttpStatus get(int httpStatus) {
+			if (httpStatus < MIN_CODE || httpStatus > MAX_CODE) {
+				return Unknown;
+			}
+			return table[httpStatus - MIN_CODE];
+		}
+	}
+	
+	/**
+	 * Header compression formats that have a pre-encoded <code>:status</code> pseudo-header field. <br>
+	 * Codes in the static table are encoded as an indexed field, every other code as a literal that references the
+	 * <code>:status</code> name in the static table and is not added to the dynamic table, so the bytes never depend on
+	 * the state of the connection.
+	 */
+	public enum FieldEncoding {
+		/**
+		 * HTTP/2 (RFC 7541)
+		 */
+		HPACK {
+			@Override
+			int staticIndex(int code) {
+				switch (code) {
+					case 200:
+						return 8;
+					case 204:
+						return 9;
+					case 206:
+						return 10;
+					case 304:
+						return 11;
+					case 400:
+						return 12;
+					case 404:
+						return 13;
+					case 500:
+						return 14;
+					default:
+						return 0;
+				}
+			}
+			
+			@Override
+			byte[] encode(int code) {
+				int index = staticIndex(code);
+				if (index > 0) {
+					// indexed header field: 1xxxxxxx
+					return new byte[]{(byte) (0x80 | index)};
+				}
+				// literal header field without indexing, name index 8 (:status) in a 4-bit prefix: 0000xxxx
+				return literal((byte) 0x08, code);
+			}
+		},
+		/**
+		 * HTTP/3 (RFC 9204). The encoded field line still needs the field section prefix of its header block.
+		 */
+		QPACK {
+			@Override
+			int staticIndex(int code) {
+				switch (code) {
+					case 103:
+						return 24;
+					case 200:
+						return 25;
+					case 304:
+						return 26;
+					case 404:
+						return 27;
+					case 503:
+						return 28;
+					case 100:
+						return 63;
+					case 204:
+						return 64;
+					case 206:
+						return 65;
+					case 302:
+						return 66;
+					case 400:
+						return 67;
+					case 403:
+						return 68;
+					case 421:
+						return 69;
+					case 425:
+						return 70;
+					case 500:
+						return 71;
+					default:
+						return 0;
+				}
+			}
+			
+			@Override
+			byte[] encode(int code) {
+				int index = staticIndex(code);
+				if (index > 0 && index < 63) {
+					// indexed field line, static table, 6-bit prefix: 11xxxxxx
+					return new byte[]{(byte) (0xC0 | index)};
+				}
+				if (index > 0) {
+					// prefix is full, the rest of the index follows as a single 7-bit continuation byte
+					return new byte[]{(byte) 0xFF, (byte) (index - 63)};
+				}
+				// literal field line with name reference, static table, 4-bit prefix: 0101xxxx; :status is index 24,
+				// which overflows the prefix so 24 - 15 follows as a continuation byte
+				byte[] literal = literal((byte) 0x09, code);
+				byte[] field = new byte[literal.length + 1];
+				field[0] = (byte) 0x5F;
+				System.arraycopy(literal, 0, field, 1, literal.length);
+				return field;
+			}
+		};
+		
+		/**
+		 * Returns the index of the <code>:status</code> field with the supplied code in the static table, or 0 if
+		 * there is no such field
+		 */
+		abstract int staticIndex(int code);
+		
+		/**
+		 * Returns the encoded <code>:status</code> field with the supplied code
+		 */
+		abstract byte[] encode(int code);
+		
+		/**
+		 * Returns the first byte followed by the code as a raw (not Huffman coded) string literal of 3 digits
+		 */
+		private static byte[] literal(byte first, int code) {
+			return new byte[]{first, 3, (byte) ('0' + code / 100), (byte) ('0' + code / 10 % 10), (byte) ('0' + code % 10)};
+		}
+	}
+	
+	/**
+	 * HTTP versions that have a pre-rendered status line
+	 */
+	public enum Version {
+		HTTP_1_0("HTTP/1.0"),
+		HTTP_1_1("HTTP/1.1");
+		
+		private final String text;
+		
+		private Version(String text) {
+			this.text = text;
+		}
+		
+		/**
+		 * Returns the version as written in a status line
+		 *
+		 * @return the version as written in a status line
+		 */
+		public final String getText() {
+			return text;
+		}
 	}
-}
\ No newline at end of file
+}
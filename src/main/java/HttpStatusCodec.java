@@ -0,0 +1,202 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary form of {@link HttpStatus} for high volume event logs. <br>
+ * A status is written either as a 1-byte stable id, which keeps every constant apart, or as its 2-byte numeric code,
+ * which any reader can decode but which maps a code shared by several constants to {@link HttpStatus#primary(int)}.
+ * <p>
+ * Ids come from an append-only table: an id never changes once it is released, and new constants get the next free
+ * id in a new {@link #VERSION}. Any reader can therefore decode logs written with an older table, and decodes ids it
+ * does not know yet as {@link HttpStatus#Unknown}. Writers should record {@link #VERSION} in their stream header.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 01:40 PM
+ */
+public final class HttpStatusCodec {
+	/**
+	 * Version of the id table, increases every time ids are appended
+	 */
+	public static final int VERSION = HttpStatusData.CODEC_VERSION;
+	
+	/**
+	 * Every status in id order, generated from the <code>codec_id</code> column of
+	 * <code>src/main/data/http-status.csv</code>. <b>Append only</b>: never reorder or remove an id, give a new
+	 * constant the next free id with a <code>codec_version</code> one above {@link #VERSION}.
+	 */
+	private static final HttpStatus[] BY_ID = HttpStatusData.CODEC_BY_ID;
+	
+	/**
+	 * Number of ids in each version of the table, index is the version
+	 */
+	private static final int[] TABLE_SIZES = HttpStatusData.CODEC_TABLE_SIZES;
+	
+	/**
+	 * Id of every status, index is the ordinal
+	 */
+	private static final byte[] IDS = new byte[HttpStatus.values().length];
+	
+	static {
+		if (BY_ID.length != TABLE_SIZES[VERSION] || BY_ID.length > 256) {
+			throw new IllegalStateException("id table does not match version " + VERSION);
+		}
+		boolean[] assigned = new boolean[IDS.length];
+		for (int id = 0; id < BY_ID.length; id++) {
+			if (assigned[BY_ID[id].ordinal()]) {
+				throw new IllegalStateException("duplicate id for " + BY_ID[id].name());
+			}
+			assigned[BY_ID[id].ordinal()] = true;
+			IDS[BY_ID[id].ordinal()] = (byte) id;
+		}
+		for (HttpStatus status : HttpStatus.values()) {
+			if (!assigned[status.ordinal()]) {
+				throw new IllegalStateException("no id for " + status.name());
+			}
+		}
+	}
+	
+	private HttpStatusCodec() {
+	}
+	
+	/**
+	 * Returns the number of ids in the supplied version of the table
+	 *
+	 * @param version
+	 * 		the table version, from 1 to {@link #VERSION}
+	 * @return the number of ids
+	 * @throws IllegalArgumentException
+	 * 		if the version is unknown
+	 */
+	public static int tableSize(int version) {
+		if (version < 1 || version > VERSION) {
+			throw new IllegalArgumentException("unknown id table version: " + version);
+		}
+		return TABLE_SIZES[version];
+	}
+	
+	/**
+	 * Returns the stable id of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @return the id, from 0 to 255
+	 */
+	public static int id(HttpStatus status) {
+		return IDS[status.ordinal()] & 0xFF;
+	}
+	
+	/**
+	 * Returns the status with the supplied stable id, or {@link HttpStatus#Unknown} if the id is not in the table
+	 *
+	 * @param id
+	 * 		the id
+	 * @return the status of the id
+	 */
+	public static HttpStatus fromId(int id) {
+		return id >= 0 && id < BY_ID.length ? BY_ID[id]: HttpStatus.Unknown;
+	}
+	
+	/**
+	 * Writes the 1-byte stable id of the supplied status
+	 *
+	 * @param status
+	 * 		the status to write
+	 * @param out
+	 * 		the output to write to
+	 * @throws IOException
+	 * 		if the output fails to write
+	 */
+	public static void writeId(HttpStatus status, DataOutput out) throws IOException {
+		out.writeByte(IDS[status.ordinal()]);
+	}
+	
+	/**
+	 * Reads a status written by {@link #writeId(HttpStatus, DataOutput)}
+	 *
+	 * @param in
+	 * 		the input to read from
+	 * @return the status read
+	 * @throws IOException
+	 * 		if the input fails to read
+	 */
+	public static HttpStatus readId(DataInput in) throws IOException {
+		return fromId(in.readUnsignedByte());
+	}
+	
+	/**
+	 * Puts the 1-byte stable id of the supplied status at the buffer's current position, then advances the position
+	 *
+	 * @param status
+	 * 		the status to put
+	 * @param buffer
+	 * 		the buffer to put into
+	 */
+	public static void putId(HttpStatus status, ByteBuffer buffer) {
+		buffer.put(IDS[status.ordinal()]);
+	}
+	
+	/**
+	 * Gets a status put by {@link #putId(HttpStatus, ByteBuffer)} at the buffer's current position, then advances the position
+	 *
+	 * @param buffer
+	 * 		the buffer to get from
+	 * @return the status read
+	 */
+	public static HttpStatus getId(ByteBuffer buffer) {
+		return fromId(buffer.get() & 0xFF);
+	}
+	
+	/**
+	 * Writes the numeric code of the supplied status as 2 bytes
+	 *
+	 * @param status
+	 * 		the status to write
+	 * @param out
+	 * 		the output to write to
+	 * @throws IOException
+	 * 		if the output fails to write
+	 */
+	public static void writeCode(HttpStatus status, DataOutput out) throws IOException {
+		out.writeShort(status.getCode());
+	}
+	
+	/**
+	 * Reads a status written by {@link #writeCode(HttpStatus, DataOutput)}, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param in
+	 * 		the input to read from
+	 * @return the status read
+	 * @throws IOException
+	 * 		if the input fails to read
+	 */
+	public static HttpStatus readCode(DataInput in) throws IOException {
+		return HttpStatus.primary(in.readUnsignedShort());
+	}
+	
+	/**
+	 * Puts the numeric code of the supplied status as 2 bytes at the buffer's current position, then advances the position
+	 *
+	 * @param status
+	 * 		the status to put
+	 * @param buffer
+	 * 		the buffer to put into
+	 */
+	public static void putCode(HttpStatus status, ByteBuffer buffer) {
+		buffer.putShort((short) status.getCode());
+	}
+	
+	/**
+	 * Gets a status put by {@link #putCode(HttpStatus, ByteBuffer)} at the buffer's current position, then advances
+	 * the position, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param buffer
+	 * 		the buffer to get from
+	 * @return the status read
+	 */
+	public static HttpStatus getCode(ByteBuffer buffer) {
+		return HttpStatus.primary(buffer.getShort() & 0xFFFF);
+	}
+}
@@ -0,0 +1,399 @@
+/**
+ * Rendered forms of every {@link HttpStatus}, index is the ordinal. <br>
+ * Generated at build time by <code>src/build/GenerateHttpStatus.java</code> from
+ * <code>src/main/data/http-status.csv</code>, so no formatting happens at runtime. Do not edit.
+ */
+final class HttpStatusData {
+	/**
+	 * {@link HttpStatus#getName()} of every constant
+	 */
+	static final String[] NAMES = new String[]{
+			"Continue",
+			"Switching Protocols",
+			"Processing",
+			"Checkpoint",
+			"Early Hints",
+			"OK",
+			"Created",
+			"Accepted",
+			"Non Authoritative Information",
+			"No Content",
+			"Reset Content",
+			"Partial Content",
+			"Multi Status",
+			"Already Reported",
+			"IM Used",
+			"Multiple Choices",
+			"Moved Permanently",
+			"Found",
+			"See Other",
+			"Not Modified",
+			"Use Proxy",
+			"Switch Proxy",
+			"Temporary Redirect",
+			"Permanent Redirect",
+			"Bad Request",
+			"Unauthorized",
+			"Payment Required",
+			"Forbidden",
+			"Not Found",
+			"Method Not Allowed",
+			"Not Acceptable",
+			"Proxy Authentication Required",
+			"Request Timeout",
+			"Conflict",
+			"Gone",
+			"Length Required",
+			"Precondition Failed",
+			"Request Entity Too Large",
+			"Requested URI Too Long",
+			"Unsupported Media Type",
+			"Request Range Not Satisfiable",
+			"Expectation Failed",
+			"Im A Teapot",
+			"Method Failure",
+			"Enhance Your Calm",
+			"Misdirected Request",
+			"Unprocessed Entity",
+			"Locked",
+			"Failed Dependency",
+			"Upgrade Required",
+			"Precondition Required",
+			"Too Many Requests",
+			"Request Header Fields Too Large",
+			"Login Time Out",
+			"No Response",
+			"Retry With",
+			"Blocked by Windows Parental Controls",
+			"Unavailable For Legal Reasons",
+			"Redirect",
+			"SSL Certificate Error",
+			"SSL Certificate Required",
+			"HTTP Request Sent to HTTPS Port",
+			"Invalid Token",
+			"Token Required",
+			"Client Closed Request",
+			"Internal Server Error",
+			"Not Implemented",
+			"Bad Gateway",
+			"Service Unavailable",
+			"Gateway Timeout",
+			"Http Version Not Supported",
+			"Variant Also Negotiates",
+			"Insufficient Storage",
+			"Loop Detected",
+			"Bandwidth Limit Exceeded",
+			"Not Extended",
+			"Network Authentication Required",
+			"Site is Frozen",
+			"Network read timeout error",
+			"Network connect timeout error",
+			"Unknown Error",
+			"Web Server is Down",
+			"Connection Timed Out",
+			"Origin is Unreachable",
+			"A Timeout Occurred",
+			"SSL Handshake Failed",
+			"Invalid SSL Certificate",
+			"Railgun Error",
+			"Unknown"
+	};
+	
+	/**
+	 * {@link HttpStatus#getJsonString()} of every constant
+	 */
+	static final String[] JSON = new String[]{
+			"{\"code\": 100, \"name\": \"Continue\", \"description\": \"The client should continue with its request.\"}",
+			"{\"code\": 101, \"name\": \"Switching Protocols\", \"description\": \"Informs the client that the server will switch to the protocol specified in the Upgrade message header field.\"}",
+			"{\"code\": 102, \"name\": \"Processing\", \"description\": \"The server requiring a long time to complete the request. This prevents the client from timing out and assuming the request was lost.\"}",
+			"{\"code\": 103, \"name\": \"Checkpoint\", \"description\": \"Used in the resumable requests proposal to resume aborted PUT or POST requests.[65]\"}",
+			"{\"code\": 103, \"name\": \"Early Hints\", \"description\": \"Used to return some response headers before entire HTTP response.\"}",
+			"{\"code\": 200, \"name\": \"OK\", \"description\": \"The request sent by the client was successful.\"}",
+			"{\"code\": 201, \"name\": \"Created\", \"description\": \"The request was successful and the resource has been created.\"}",
+			"{\"code\": 202, \"name\": \"Accepted\", \"description\": \"The request has been accepted but has not yet finished processing.\"}",
+			"{\"code\": 203, \"name\": \"Non Authoritative Information\", \"description\": \"The returned meta-information in the entity header is not the definitive set of information, it might be a local copy or contain local alterations.\"}",
+			"{\"code\": 204, \"name\": \"No Content\", \"description\": \"The request was successful but not require the return of an entity body.\"}",
+			"{\"code\": 205, \"name\": \"Reset Content\", \"description\": \"The request was successful and the user agent should reset the view that sent the request.\"}",
+			"{\"code\": 206, \"name\": \"Partial Content\", \"description\": \"The partial request was successful.\"}",
+			"{\"code\": 207, \"name\": \"Multi Status\", \"description\": \"The message body that follows is an XML message and can contain a number of separate response codes, depending on how many sub-requests were made.\"}",
+			"{\"code\": 208, \"name\": \"Already Reported\", \"description\": \"The members of a DAV binding have already been enumerated in a previous reply to this request, and are not being included again.[16]\"}",
+			"{\"code\": 226, \"name\": \"IM Used\", \"description\": \"The server has fulfilled a request for the resource, and the response is a representation of the result of one or more instance-manipulations applied to the current instance.\"}",
+			"{\"code\": 300, \"name\": \"Multiple Choices\", \"description\": \"The requested resource has multiple choices, each of which has a different location.\"}",
+			"{\"code\": 301, \"name\": \"Moved Permanently\", \"description\": \"The requested resources has moved permanently to a new location.\"}",
+			"{\"code\": 302, \"name\": \"Found\", \"description\": \"The requested resource has been found at a different location but the client should use the original URI.\"}",
+			"{\"code\": 303, \"name\": \"See Other\", \"description\": \"The requested resource is located at a different location which should be returned by the location field in the response.\"}",
+			"{\"code\": 304, \"name\": \"Not Modified\", \"description\": \"The resource has not been modified since the last request.\"}",
+			"{\"code\": 305, \"name\": \"Use Proxy\", \"description\": \"The requested resource can only be accessed through a proxy which should be provided in the location field.\"}",
+			"{\"code\": 306, \"name\": \"Switch Proxy\", \"description\": \"No longer used. Originally meant Subsequent requests should use the specified proxy.\"}",
+			"{\"code\": 307, \"name\": \"Temporary Redirect\", \"description\": \"The requested resource is temporarily moved to the provided location but the client should continue to use this location as the resource may again move.\"}",
+			"{\"code\": 308, \"name\": \"Permanent Redirect\", \"description\": \"The request and all future requests should be repeated using another URI. Do not allow the HTTP method to change.\"}",
+			"{\"code\": 400, \"name\": \"Bad Request\", \"description\": \"The request could not be understood by the server.\"}",
+			"{\"code\": 401, \"name\": \"Unauthorized\", \"description\": \"The request requires authorization.\"}",
+			"{\"code\": 402, \"name\": \"Payment Required\", \"description\": \"Reserved for future use.\"}",
+			"{\"code\": 403, \"name\": \"Forbidden\", \"description\": \"Whilst the server did understand the request, the server is refusing to complete it. This is not an authorization problem.\"}",
+			"{\"code\": 404, \"name\": \"Not Found\", \"description\": \"The requested resource was not found.\"}",
+			"{\"code\": 405, \"name\": \"Method Not Allowed\", \"description\": \"The supplied method was not allowed on the given resource.\"}",
+			"{\"code\": 406, \"name\": \"Not Acceptable\", \"description\": \"The resource is not able to return a response that is suitable for the characteristics required by the accept headers of the request.\"}",
+			"{\"code\": 407, \"name\": \"Proxy Authentication Required\", \"description\": \"The client must authenticate themselves with the proxy.\"}",
+			"{\"code\": 408, \"name\": \"Request Timeout\", \"description\": \"The client did not supply a request in the period required by the server.\"}",
+			"{\"code\": 409, \"name\": \"Conflict\", \"description\": \"The request could not be completed as the resource is in a conflicted state.\"}",
+			"{\"code\": 410, \"name\": \"Gone\", \"description\": \"The requested resource is no longer available on the server and no redirect address is available.\"}",
+			"{\"code\": 411, \"name\": \"Length Required\", \"description\": \"The server will not accept the request without a Content-Length field.\"}",
+			"{\"code\": 412, \"name\": \"Precondition Failed\", \"description\": \"The supplied precondition evaluated to false on the server.\"}",
+			"{\"code\": 413, \"name\": \"Request Entity Too Large\", \"description\": \"The request was unsuccessful because the request entity was larger than the server would allow\"}",
+			"{\"code\": 414, \"name\": \"Requested URI Too Long\", \"description\": \"The request was unsuccessful because the requested URI is longer than the server is willing to process (that's what she said).\"}",
+			"{\"code\": 415, \"name\": \"Unsupported Media Type\", \"description\": \"The request was unsuccessful because the request was for an unsupported format.\"}",
+			"{\"code\": 416, \"name\": \"Request Range Not Satisfiable\", \"description\": \"The range of the resource does not overlap with the values specified in the requests Range header field and not alternative If-Range field was supplied.\"}",
+			"{\"code\": 417, \"name\": \"Expectation Failed\", \"description\": \"The expectation supplied in the Expectation header field could not be met by the server.\"}",
+			"{\"code\": 418, \"name\": \"Im A Teapot\", \"description\": \"I'm a teapot (IETF April Fools' jokes)\"}",
+			"{\"code\": 420, \"name\": \"Method Failure\", \"description\": \"A deprecated response when a method has failed.\"}",
+			"{\"code\": 420, \"name\": \"Enhance Your Calm\", \"description\": \"The client is being rate limited\"}",
+			"{\"code\": 421, \"name\": \"Misdirected Request\", \"description\": \"The request was directed at a server that is not able to produce a response (for example because a connection reuse)\"}",
+			"{\"code\": 422, \"name\": \"Unprocessed Entity\", \"description\": \"The request was well-formed but was unable to be followed due to semantic errors.\"}",
+			"{\"code\": 423, \"name\": \"Locked\", \"description\": \"The resource that is being accessed is locked.\"}",
+			"{\"code\": 424, \"name\": \"Failed Dependency\", \"description\": \"The request failed due to failure of a previous request.\"}",
+			"{\"code\": 426, \"name\": \"Upgrade Required\", \"description\": \"The client should switch to a different protocol , given in the Upgrade header field.\"}",
+			"{\"code\": 428, \"name\": \"Precondition Required\", \"description\": \"The origin server requires the request to be conditional. Intended to prevent the lost update problem.\"}",
+			"{\"code\": 429, \"name\": \"Too Many Requests\", \"description\": \"The user has sent too many requests in a given amount of time. Intended for use with rate-limiting schemes.\"}",
+			"{\"code\": 431, \"name\": \"Request Header Fields Too Large\", \"description\": \"The server is unwilling to process the request because either an individual header field, or all the header fields, are too large.\"}",
+			"{\"code\": 440, \"name\": \"Login Time Out\", \"description\": \"The client's session has expired.\"}",
+			"{\"code\": 444, \"name\": \"No Response\", \"description\": \"returned no information to the client and closed the connection.\"}",
+			"{\"code\": 449, \"name\": \"Retry With\", \"description\": \"The server cannot honour the request because the user has not provided the required information.\"}",
+			"{\"code\": 450, \"name\": \"Blocked by Windows Parental Controls\", \"description\": \"when Windows Parental Controls are turned on and are blocking access to the given webpage.\"}",
+			"{\"code\": 451, \"name\": \"Unavailable For Legal Reasons\", \"description\": \"A server operator has received a legal demand to deny access to a resource or to a set of resources that includes the requested resource.\"}",
+			"{\"code\": 451, \"name\": \"Redirect\", \"description\": \"Used when either a more efficient server is available or the server cannot access the users' mailbox.\"}",
+			"{\"code\": 495, \"name\": \"SSL Certificate Error\", \"description\": \"The client has provided an invalid client certificate.\"}",
+			"{\"code\": 496, \"name\": \"SSL Certificate Required\", \"description\": \"A client certificate is required but not provided.\"}",
+			"{\"code\": 497, \"name\": \"HTTP Request Sent to HTTPS Port\", \"description\": \"client has made a HTTP request to a port listening for HTTPS requests.\"}",
+			"{\"code\": 498, \"name\": \"Invalid Token\", \"description\": \"indicates an expired or otherwise invalid token.\"}",
+			"{\"code\": 499, \"name\": \"Token Required\", \"description\": \"indicates that a token is required but was not submitted.\"}",
+			"{\"code\": 499, \"name\": \"Client Closed Request\", \"description\": \"The client has closed the request before the server could send a response.\"}",
+			"{\"code\": 500, \"name\": \"Internal Server Error\", \"description\": \"The request was unsuccessful because the server encountered an unexpected error.\"}",
+			"{\"code\": 501, \"name\": \"Not Implemented\", \"description\": \"The server does not support the request.\"}",
+			"{\"code\": 502, \"name\": \"Bad Gateway\", \"description\": \"The server, whilst acting as a proxy, received an invalid response from the server that was fulfilling the request.\"}",
+			"{\"code\": 503, \"name\": \"Service Unavailable\", \"description\": \"The request was unsuccessful as the server is either down or slash reedited.\"}",
+			"{\"code\": 504, \"name\": \"Gateway Timeout\", \"description\": \"The server, whilst acting as a proxy, did not receive a response from the upstream server in an acceptable time.\"}",
+			"{\"code\": 505, \"name\": \"Http Version Not Supported\", \"description\": \"The server does not supported the HTTP protocol version specified in the request\"}",
+			"{\"code\": 506, \"name\": \"Variant Also Negotiates\", \"description\": \"Transparent content negotiation for the request results in a circular reference.\"}",
+			"{\"code\": 507, \"name\": \"Insufficient Storage\", \"description\": \"The server is unable to store the representation needed to complete the request.\"}",
+			"{\"code\": 508, \"name\": \"Loop Detected\", \"description\": \"The server detected an infinite loop while processing the request.\"}",
+			"{\"code\": 509, \"name\": \"Bandwidth Limit Exceeded\", \"description\": \"The server has exceeded the bandwidth specified by the server administrator.\"}",
+			"{\"code\": 510, \"name\": \"Not Extended\", \"description\": \"Further extensions to the request are required for the server to fulfill it.\"}",
+			"{\"code\": 511, \"name\": \"Network Authentication Required\", \"description\": \"The client needs to authenticate to gain network access.\"}",
+			"{\"code\": 530, \"name\": \"Site is Frozen\", \"description\": \"indicate a site that has been frozen due to inactivity.\"}",
+			"{\"code\": 598, \"name\": \"Network read timeout error\", \"description\": \"to signal a network read timeout behind the proxy to a client in front of the proxy.\"}",
+			"{\"code\": 599, \"name\": \"Network connect timeout error\", \"description\": \"indicate when the connection to the network times out.\"}",
+			"{\"code\": 520, \"name\": \"Unknown Error\", \"description\": \"server returns something unexpected.\"}",
+			"{\"code\": 521, \"name\": \"Web Server is Down\", \"description\": \"refused the connection.\"}",
+			"{\"code\": 522, \"name\": \"Connection Timed Out\", \"description\": \"cannot negotiate a TCP handshake with the origin server.\"}",
+			"{\"code\": 523, \"name\": \"Origin is Unreachable\", \"description\": \"cannot reach the origin server\"}",
+			"{\"code\": 524, \"name\": \"A Timeout Occurred\", \"description\": \"did not receive a timely HTTP response.\"}",
+			"{\"code\": 525, \"name\": \"SSL Handshake Failed\", \"description\": \"cannot negotiate a SSL/TLS handshake with the origin server.\"}",
+			"{\"code\": 526, \"name\": \"Invalid SSL Certificate\", \"description\": \"cannot validate the SSL/TLS certificate that the origin server presented.\"}",
+			"{\"code\": 527, \"name\": \"Railgun Error\", \"description\": \"The requests timeout or failed after the WAN connection has been established.\"}",
+			"{\"code\": 999, \"name\": \"Unknown\", \"description\": \"Unknown or unsupported HTTP status code\"}"
+	};
+	
+	/**
+	 * {@link HttpStatus#toString()} of every constant
+	 */
+	static final String[] PRETTY = new String[]{
+			"{\n\t\"code\": 100, \n\t\"name\": \"Continue\", \n\t\"description\": \"The client should continue with its request.\"}",
+			"{\n\t\"code\": 101, \n\t\"name\": \"Switching Protocols\", \n\t\"description\": \"Informs the client that the server will switch to the protocol specified in the Upgrade message header field.\"}",
+			"{\n\t\"code\": 102, \n\t\"name\": \"Processing\", \n\t\"description\": \"The server requiring a long time to complete the request. This prevents the client from timing out and assuming the request was lost.\"}",
+			"{\n\t\"code\": 103, \n\t\"name\": \"Checkpoint\", \n\t\"description\": \"Used in the resumable requests proposal to resume aborted PUT or POST requests.[65]\"}",
+			"{\n\t\"code\": 103, \n\t\"name\": \"Early Hints\", \n\t\"description\": \"Used to return some response headers before entire HTTP response.\"}",
+			"{\n\t\"code\": 200, \n\t\"name\": \"OK\", \n\t\"description\": \"The request sent by the client was successful.\"}",
+			"{\n\t\"code\": 201, \n\t\"name\": \"Created\", \n\t\"description\": \"The request was successful and the resource has been created.\"}",
+			"{\n\t\"code\": 202, \n\t\"name\": \"Accepted\", \n\t\"description\": \"The request has been accepted but has not yet finished processing.\"}",
+			"{\n\t\"code\": 203, \n\t\"name\": \"Non Authoritative Information\", \n\t\"description\": \"The returned meta-information in the entity header is not the definitive set of information, it might be a local copy or contain local alterations.\"}",
+			"{\n\t\"code\": 204, \n\t\"name\": \"No Content\", \n\t\"description\": \"The request was successful but not require the return of an entity body.\"}",
+			"{\n\t\"code\": 205, \n\t\"name\": \"Reset Content\", \n\t\"description\": \"The request was successful and the user agent should reset the view that sent the request.\"}",
+			"{\n\t\"code\": 206, \n\t\"name\": \"Partial Content\", \n\t\"description\": \"The partial request was successful.\"}",
+			"{\n\t\"code\": 207, \n\t\"name\": \"Multi Status\", \n\t\"description\": \"The message body that follows is an XML message and can contain a number of separate response codes, depending on how many sub-requests were made.\"}",
+			"{\n\t\"code\": 208, \n\t\"name\": \"Already Reported\", \n\t\"description\": \"The members of a DAV binding have already been enumerated in a previous reply to this request, and are not being included again.[16]\"}",
+			"{\n\t\"code\": 226, \n\t\"name\": \"IM Used\", \n\t\"description\": \"The server has fulfilled a request for the resource, and the response is a representation of the result of one or more instance-manipulations applied to the current instance.\"}",
+			"{\n\t\"code\": 300, \n\t\"name\": \"Multiple Choices\", \n\t\"description\": \"The requested resource has multiple choices, each of which has a different location.\"}",
+			"{\n\t\"code\": 301, \n\t\"name\": \"Moved Permanently\", \n\t\"description\": \"The requested resources has moved permanently to a new location.\"}",
+			"{\n\t\"code\": 302, \n\t\"name\": \"Found\", \n\t\"description\": \"The requested resource has been found at a different location but the client should use the original URI.\"}",
+			"{\n\t\"code\": 303, \n\t\"name\": \"See Other\", \n\t\"description\": \"The requested resource is located at a different location which should be returned by the location field in the response.\"}",
+			"{\n\t\"code\": 304, \n\t\"name\": \"Not Modified\", \n\t\"description\": \"The resource has not been modified since the last request.\"}",
+			"{\n\t\"code\": 305, \n\t\"name\": \"Use Proxy\", \n\t\"description\": \"The requested resource can only be accessed through a proxy which should be provided in the location field.\"}",
+			"{\n\t\"code\": 306, \n\t\"name\": \"Switch Proxy\", \n\t\"description\": \"No longer used. Originally meant Subsequent requests should use the specified proxy.\"}",
+			"{\n\t\"code\": 307, \n\t\"name\": \"Temporary Redirect\", \n\t\"description\": \"The requested resource is temporarily moved to the provided location but the client should continue to use this location as the resource may again move.\"}",
+			"{\n\t\"code\": 308, \n\t\"name\": \"Permanent Redirect\", \n\t\"description\": \"The request and all future requests should be repeated using another URI. Do not allow the HTTP method to change.\"}",
+			"{\n\t\"code\": 400, \n\t\"name\": \"Bad Request\", \n\t\"description\": \"The request could not be understood by the server.\"}",
+			"{\n\t\"code\": 401, \n\t\"name\": \"Unauthorized\", \n\t\"description\": \"The request requires authorization.\"}",
+			"{\n\t\"code\": 402, \n\t\"name\": \"Payment Required\", \n\t\"description\": \"Reserved for future use.\"}",
+			"{\n\t\"code\": 403, \n\t\"name\": \"Forbidden\", \n\t\"description\": \"Whilst the server did understand the request, the server is refusing to complete it. This is not an authorization problem.\"}",
+			"{\n\t\"code\": 404, \n\t\"name\": \"Not Found\", \n\t\"description\": \"The requested resource was not found.\"}",
+			"{\n\t\"code\": 405, \n\t\"name\": \"Method Not Allowed\", \n\t\"description\": \"The supplied method was not allowed on the given resource.\"}",
+			"{\n\t\"code\": 406, \n\t\"name\": \"Not Acceptable\", \n\t\"description\": \"The resource is not able to return a response that is suitable for the characteristics required by the accept headers of the request.\"}",
+			"{\n\t\"code\": 407, \n\t\"name\": \"Proxy Authentication Required\", \n\t\"description\": \"The client must authenticate themselves with the proxy.\"}",
+			"{\n\t\"code\": 408, \n\t\"name\": \"Request Timeout\", \n\t\"description\": \"The client did not supply a request in the period required by the server.\"}",
+			"{\n\t\"code\": 409, \n\t\"name\": \"Conflict\", \n\t\"description\": \"The request could not be completed as the resource is in a conflicted state.\"}",
+			"{\n\t\"code\": 410, \n\t\"name\": \"Gone\", \n\t\"description\": \"The requested resource is no longer available on the server and no redirect address is available.\"}",
+			"{\n\t\"code\": 411, \n\t\"name\": \"Length Required\", \n\t\"description\": \"The server will not accept the request without a Content-Length field.\"}",
+			"{\n\t\"code\": 412, \n\t\"name\": \"Precondition Failed\", \n\t\"description\": \"The supplied precondition evaluated to false on the server.\"}",
+			"{\n\t\"code\": 413, \n\t\"name\": \"Request Entity Too Large\", \n\t\"description\": \"The request was unsuccessful because the request entity was larger than the server would allow\"}",
+			"{\n\t\"code\": 414, \n\t\"name\": \"Requested URI Too Long\", \n\t\"description\": \"The request was unsuccessful because the requested URI is longer than the server is willing to process (that's what she said).\"}",
+			"{\n\t\"code\": 415, \n\t\"name\": \"Unsupported Media Type\", \n\t\"description\": \"The request was unsuccessful because the request was for an unsupported format.\"}",
+			"{\n\t\"code\": 416, \n\t\"name\": \"Request Range Not Satisfiable\", \n\t\"description\": \"The range of the resource does not overlap with the values specified in the requests Range header field and not alternative If-Range field was supplied.\"}",
+			"{\n\t\"code\": 417, \n\t\"name\": \"Expectation Failed\", \n\t\"description\": \"The expectation supplied in the Expectation header field could not be met by the server.\"}",
+			"{\n\t\"code\": 418, \n\t\"name\": \"Im A Teapot\", \n\t\"description\": \"I'm a teapot (IETF April Fools' jokes)\"}",
+			"{\n\t\"code\": 420, \n\t\"name\": \"Method Failure\", \n\t\"description\": \"A deprecated response when a method has failed.\"}",
+			"{\n\t\"code\": 420, \n\t\"name\": \"Enhance Your Calm\", \n\t\"description\": \"The client is being rate limited\"}",
+			"{\n\t\"code\": 421, \n\t\"name\": \"Misdirected Request\", \n\t\"description\": \"The request was directed at a server that is not able to produce a response (for example because a connection reuse)\"}",
+			"{\n\t\"code\": 422, \n\t\"name\": \"Unprocessed Entity\", \n\t\"description\": \"The request was well-formed but was unable to be followed due to semantic errors.\"}",
+			"{\n\t\"code\": 423, \n\t\"name\": \"Locked\", \n\t\"description\": \"The resource that is being accessed is locked.\"}",
+			"{\n\t\"code\": 424, \n\t\"name\": \"Failed Dependency\", \n\t\"description\": \"The request failed due to failure of a previous request.\"}",
+			"{\n\t\"code\": 426, \n\t\"name\": \"Upgrade Required\", \n\t\"description\": \"The client should switch to a different protocol , given in the Upgrade header field.\"}",
+			"{\n\t\"code\": 428, \n\t\"name\": \"Precondition Required\", \n\t\"description\": \"The origin server requires the request to be conditional. Intended to prevent the lost update problem.\"}",
+			"{\n\t\"code\": 429, \n\t\"name\": \"Too Many Requests\", \n\t\"description\": \"The user has sent too many requests in a given amount of time. Intended for use with rate-limiting schemes.\"}",
+			"{\n\t\"code\": 431, \n\t\"name\": \"Request Header Fields Too Large\", \n\t\"description\": \"The server is unwilling to process the request because either an individual header field, or all the header fields, are too large.\"}",
+			"{\n\t\"code\": 440, \n\t\"name\": \"Login Time Out\", \n\t\"description\": \"The client's session has expired.\"}",
+			"{\n\t\"code\": 444, \n\t\"name\": \"No Response\", \n\t\"description\": \"returned no information to the client and closed the connection.\"}",
+			"{\n\t\"code\": 449, \n\t\"name\": \"Retry With\", \n\t\"description\": \"The server cannot honour the request because the user has not provided the required information.\"}",
+			"{\n\t\"code\": 450, \n\t\"name\": \"Blocked by Windows Parental Controls\", \n\t\"description\": \"when Windows Parental Controls are turned on and are blocking access to the given webpage.\"}",
+			"{\n\t\"code\": 451, \n\t\"name\": \"Unavailable For Legal Reasons\", \n\t\"description\": \"A server operator has received a legal demand to deny access to a resource or to a set of resources that includes the requested resource.\"}",
+			"{\n\t\"code\": 451, \n\t\"name\": \"Redirect\", \n\t\"description\": \"Used when either a more efficient server is available or the server cannot access the users' mailbox.\"}",
+			"{\n\t\"code\": 495, \n\t\"name\": \"SSL Certificate Error\", \n\t\"description\": \"The client has provided an invalid client certificate.\"}",
+			"{\n\t\"code\": 496, \n\t\"name\": \"SSL Certificate Required\", \n\t\"description\": \"A client certificate is required but not provided.\"}",
+			"{\n\t\"code\": 497, \n\t\"name\": \"HTTP Request Sent to HTTPS Port\", \n\t\"description\": \"client has made a HTTP request to a port listening for HTTPS requests.\"}",
+			"{\n\t\"code\": 498, \n\t\"name\": \"Invalid Token\", \n\t\"description\": \"indicates an expired or otherwise invalid token.\"}",
+			"{\n\t\"code\": 499, \n\t\"name\": \"Token Required\", \n\t\"description\": \"indicates that a token is required but was not submitted.\"}",
+			"{\n\t\"code\": 499, \n\t\"name\": \"Client Closed Request\", \n\t\"description\": \"The client has closed the request before the server could send a response.\"}",
+			"{\n\t\"code\": 500, \n\t\"name\": \"Internal Server Error\", \n\t\"description\": \"The request was unsuccessful because the server encountered an unexpected error.\"}",
+			"{\n\t\"code\": 501, \n\t\"name\": \"Not Implemented\", \n\t\"description\": \"The server does not support the request.\"}",
+			"{\n\t\"code\": 502, \n\t\"name\": \"Bad Gateway\", \n\t\"description\": \"The server, whilst acting as a proxy, received an invalid response from the server that was fulfilling the request.\"}",
+			"{\n\t\"code\": 503, \n\t\"name\": \"Service Unavailable\", \n\t\"description\": \"The request was unsuccessful as the server is either down or slash reedited.\"}",
+			"{\n\t\"code\": 504, \n\t\"name\": \"Gateway Timeout\", \n\t\"description\": \"The server, whilst acting as a proxy, did not receive a response from the upstream server in an acceptable time.\"}",
+			"{\n\t\"code\": 505, \n\t\"name\": \"Http Version Not Supported\", \n\t\"description\": \"The server does not supported the HTTP protocol version specified in the request\"}",
+			"{\n\t\"code\": 506, \n\t\"name\": \"Variant Also Negotiates\", \n\t\"description\": \"Transparent content negotiation for the request results in a circular reference.\"}",
+			"{\n\t\"code\": 507, \n\t\"name\": \"Insufficient Storage\", \n\t\"description\": \"The server is unable to store the representation needed to complete the request.\"}",
+			"{\n\t\"code\": 508, \n\t\"name\": \"Loop Detected\", \n\t\"description\": \"The server detected an infinite loop while processing the request.\"}",
+			"{\n\t\"code\": 509, \n\t\"name\": \"Bandwidth Limit Exceeded\", \n\t\"description\": \"The server has exceeded the bandwidth specified by the server administrator.\"}",
+			"{\n\t\"code\": 510, \n\t\"name\": \"Not Extended\", \n\t\"description\": \"Further extensions to the request are required for the server to fulfill it.\"}",
+			"{\n\t\"code\": 511, \n\t\"name\": \"Network Authentication Required\", \n\t\"description\": \"The client needs to authenticate to gain network access.\"}",
+			"{\n\t\"code\": 530, \n\t\"name\": \"Site is Frozen\", \n\t\"description\": \"indicate a site that has been frozen due to inactivity.\"}",
+			"{\n\t\"code\": 598, \n\t\"name\": \"Network read timeout error\", \n\t\"description\": \"to signal a network read timeout behind the proxy to a client in front of the proxy.\"}",
+			"{\n\t\"code\": 599, \n\t\"name\": \"Network connect timeout error\", \n\t\"description\": \"indicate when the connection to the network times out.\"}",
+			"{\n\t\"code\": 520, \n\t\"name\": \"Unknown Error\", \n\t\"description\": \"server returns something unexpected.\"}",
+			"{\n\t\"code\": 521, \n\t\"name\": \"Web Server is Down\", \n\t\"description\": \"refused the connection.\"}",
+			"{\n\t\"code\": 522, \n\t\"name\": \"Connection Timed Out\", \n\t\"description\": \"cannot negotiate a TCP handshake with the origin server.\"}",
+			"{\n\t\"code\": 523, \n\t\"name\": \"Origin is Unreachable\", \n\t\"description\": \"cannot reach the origin server\"}",
+			"{\n\t\"code\": 524, \n\t\"name\": \"A Timeout Occurred\", \n\t\"description\": \"did not receive a timely HTTP response.\"}",
+			"{\n\t\"code\": 525, \n\t\"name\": \"SSL Handshake Failed\", \n\t\"description\": \"cannot negotiate a SSL/TLS handshake with the origin server.\"}",
+			"{\n\t\"code\": 526, \n\t\"name\": \"Invalid SSL Certificate\", \n\t\"description\": \"cannot validate the SSL/TLS certificate that the origin server presented.\"}",
+			"{\n\t\"code\": 527, \n\t\"name\": \"Railgun Error\", \n\t\"description\": \"The requests timeout or failed after the WAN connection has been established.\"}",
+			"{\n\t\"code\": 999, \n\t\"name\": \"Unknown\", \n\t\"description\": \"Unknown or unsupported HTTP status code\"}"
+	};
+	
+	/**
+	 * {@link HttpStatusCodec#VERSION}, the largest codec_version of the csv
+	 */
+	static final int CODEC_VERSION = 1;
+	
+	/**
+	 * Number of codec ids in each version of the table, index is the version
+	 */
+	static final int[] CODEC_TABLE_SIZES = new int[]{0, 89};
+	
+	/**
+	 * Every status in codec id order
+	 */
+	static final HttpStatus[] CODEC_BY_ID = new HttpStatus[]{
+			HttpStatus.Unknown, // 0
+			HttpStatus.Continue, // 1
+			HttpStatus.Switching_Protocols, // 2
+			HttpStatus.Processing, // 3
+			HttpStatus.Checkpoint, // 4
+			HttpStatus.Early_Hints, // 5
+			HttpStatus.OK, // 6
+			HttpStatus.Created, // 7
+			HttpStatus.Accepted, // 8
+			HttpStatus.Non_Authoritative_Information, // 9
+			HttpStatus.No_Content, // 10
+			HttpStatus.Reset_Content, // 11
+			HttpStatus.Partial_Content, // 12
+			HttpStatus.Multi_Status, // 13
+			HttpStatus.Already_Reported, // 14
+			HttpStatus.IM_Used, // 15
+			HttpStatus.Multiple_Choices, // 16
+			HttpStatus.Moved_Permanently, // 17
+			HttpStatus.Found, // 18
+			HttpStatus.See_Other, // 19
+			HttpStatus.Not_Modified, // 20
+			HttpStatus.Use_Proxy, // 21
+			HttpStatus.Switch_Proxy, // 22
+			HttpStatus.Temporary_Redirect, // 23
+			HttpStatus.Permanent_Redirect, // 24
+			HttpStatus.Bad_Request, // 25
+			HttpStatus.Unauthorized, // 26
+			HttpStatus.Payment_Required, // 27
+			HttpStatus.Forbidden, // 28
+			HttpStatus.Not_Found, // 29
+			HttpStatus.Method_Not_Allowed, // 30
+			HttpStatus.Not_Acceptable, // 31
+			HttpStatus.Proxy_Authentication_Required, // 32
+			HttpStatus.Request_Timeout, // 33
+			HttpStatus.Conflict, // 34
+			HttpStatus.Gone, // 35
+			HttpStatus.Length_Required, // 36
+			HttpStatus.Precondition_Failed, // 37
+			HttpStatus.Request_Entity_Too_Large, // 38
+			HttpStatus.Requested_URI_Too_Long, // 39
+			HttpStatus.Unsupported_Media_Type, // 40
+			HttpStatus.Request_Range_Not_Satisfiable, // 41
+			HttpStatus.Expectation_Failed, // 42
+			HttpStatus.Im_A_Teapot, // 43
+			HttpStatus.Method_Failure, // 44
+			HttpStatus.Enhance_Your_Calm, // 45
+			HttpStatus.Misdirected_Request, // 46
+			HttpStatus.Unprocessed_Entity, // 47
+			HttpStatus.Locked, // 48
+			HttpStatus.Failed_Dependency, // 49
+			HttpStatus.Upgrade_Required, // 50
+			HttpStatus.Precondition_Required, // 51
+			HttpStatus.Too_Many_Requests, // 52
+			HttpStatus.Request_Header_Fields_Too_Large, // 53
+			HttpStatus.Login_Time_Out, // 54
+			HttpStatus.No_Response, // 55
+			HttpStatus.Retry_With, // 56
+			HttpStatus.Blocked_by_Windows_Parental_Controls, // 57
+			HttpStatus.Unavailable_For_Legal_Reasons, // 58
+			HttpStatus.Redirect, // 59
+			HttpStatus.SSL_Certificate_Error, // 60
+			HttpStatus.SSL_Certificate_Required, // 61
+			HttpStatus.HTTP_Request_Sent_to_HTTPS_Port, // 62
+			HttpStatus.Invalid_Token, // 63
+			HttpStatus.Token_Required, // 64
+			HttpStatus.Client_Closed_Request, // 65
+			HttpStatus.Internal_Server_Error, // 66
+			HttpStatus.Not_Implemented, // 67
+			HttpStatus.Bad_Gateway, // 68
+			HttpStatus.Service_Unavailable, // 69
+			HttpStatus.Gateway_Timeout, // 70
+			HttpStatus.Http_Version_Not_Supported, // 71
+			HttpStatus.Variant_Also_Negotiates, // 72
+			HttpStatus.Insufficient_Storage, // 73
+			HttpStatus.Loop_Detected, // 74
+			HttpStatus.Bandwidth_Limit_Exceeded, // 75
+			HttpStatus.Not_Extended, // 76
+			HttpStatus.Network_Authentication_Required, // 77
+			HttpStatus.Site_is_Frozen, // 78
+			HttpStatus.Network_read_timeout_error, // 79
+			HttpStatus.Network_connect_timeout_error, // 80
+			HttpStatus.Unknown_Error, // 81
+			HttpStatus.Web_Server_is_Down, // 82
+			HttpStatus.Connection_Timed_Out, // 83
+			HttpStatus.Origin_is_Unreachable, // 84
+			HttpStatus.A_Timeout_Occurred, // 85
+			HttpStatus.SSL_Handshake_Failed, // 86
+			HttpStatus.Invalid_SSL_Certificate, // 87
+			HttpStatus.Railgun_Error // 88
+	};
+	
+	private HttpStatusData() {
+	}
+}
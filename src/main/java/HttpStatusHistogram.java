@@ -0,0 +1,169 @@
+import java.util.EnumMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk counting of status codes, e.g. the status column of an access log. <br>
+ * Every method returns a histogram as a <code>long[]</code> indexed by {@link HttpStatus#ordinal()}. A code shared by
+ * several constants is counted against {@link HttpStatus#primary(int)}, any other code against
+ * {@link HttpStatus#Unknown}. Counting never boxes; use {@link #toEnumMap(long[])} to turn the final histogram into a map.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 02:05 PM
+ */
+public final class HttpStatusHistogram {
+	private static final HttpStatus[] STATUSES = HttpStatus.values();
+	/**
+	 * Arrays shorter than this are counted by a single thread in {@link #parallelHistogram(int[])}
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	
+	private HttpStatusHistogram() {
+	}
+	
+	/**
+	 * Returns a new empty histogram
+	 *
+	 * @return an empty histogram
+	 */
+	public static long[] newHistogram() {
+		return new long[STATUSES.length];
+	}
+	
+	/**
+	 * Counts the supplied code into a histogram
+	 *
+	 * @param histogram
+	 * 		the histogram to count into
+	 * @param code
+	 * 		the status code
+	 */
+	public static void add(long[] histogram, int code) {
+		histogram[HttpStatus.primaryOrdinal(code)]++;
+	}
+	
+	/**
+	 * Adds every count of <code>source</code> into <code>target</code>
+	 *
+	 * @param target
+	 * 		the histogram to add into
+	 * @param source
+	 * 		the histogram to add
+	 */
+	public static void merge(long[] target, long[] source) {
+		for (int i = 0; i < target.length; i++) {
+			target[i] += source[i];
+		}
+	}
+	
+	/**
+	 * Counts every supplied code in a single thread
+	 *
+	 * @param codes
+	 * 		the status codes
+	 * @return the histogram of the codes
+	 */
+	public static long[] histogram(int[] codes) {
+		return histogram(codes, 0, codes.length);
+	}
+	
+	/**
+	 * Counts the supplied codes from index <code>from</code> (inclusive) to <code>to</code> (exclusive) in a single thread
+	 *
+	 * @param codes
+	 * 		the status codes
+	 * @param from
+	 * 		index of the first code to count
+	 * @param to
+	 * 		index after the last code to count
+	 * @return the histogram of the codes
+	 */
+	public static long[] histogram(int[] codes, int from, int to) {
+		long[] histogram = newHistogram();
+		for (int i = from; i < to; i++) {
+			add(histogram, codes[i]);
+		}
+		return histogram;
+	}
+	
+	/**
+	 * Counts every supplied code, splitting large arrays across the common fork-join pool
+	 *
+	 * @param codes
+	 * 		the status codes
+	 * @return the histogram of the codes
+	 */
+	public static long[] parallelHistogram(int[] codes) {
+		return parallelHistogram(codes, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Counts every supplied code, splitting large arrays across the supplied fork-join pool
+	 *
+	 * @param codes
+	 * 		the status codes
+	 * @param pool
+	 * 		the pool to count in
+	 * @return the histogram of the codes
+	 */
+	public static long[] parallelHistogram(int[] codes, ForkJoinPool pool) {
+		return pool.invoke(new CountTask(codes, 0, codes.length));
+	}
+	
+	/**
+	 * Counts every code of the supplied stream. A parallel stream is counted in parallel, one histogram per split.
+	 *
+	 * @param codes
+	 * 		the status codes
+	 * @return the histogram of the codes
+	 */
+	public static long[] histogram(IntStream codes) {
+		return codes.collect(HttpStatusHistogram::newHistogram, HttpStatusHistogram::add, HttpStatusHistogram::merge);
+	}
+	
+	/**
+	 * Converts a histogram into a map, leaving out statuses that were never counted
+	 *
+	 * @param histogram
+	 * 		the histogram
+	 * @return the count of every counted status
+	 */
+	public static EnumMap<HttpStatus, Long> toEnumMap(long[] histogram) {
+		EnumMap<HttpStatus, Long> map = new EnumMap<HttpStatus, Long>(HttpStatus.class);
+		for (HttpStatus status : STATUSES) {
+			if (histogram[status.ordinal()] != 0) {
+				map.put(status, histogram[status.ordinal()]);
+			}
+		}
+		return map;
+	}
+	
+	private static final class CountTask extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] codes;
+		private final int from;
+		private final int to;
+		
+		private CountTask(int[] codes, int from, int to) {
+			this.codes = codes;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected long[] compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				return histogram(codes, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			CountTask left = new CountTask(codes, from, middle);
+			left.fork();
+			long[] histogram = new CountTask(codes, middle, to).compute();
+			merge(histogram, left.join());
+			return histogram;
+		}
+	}
+}
@@ -0,0 +1,338 @@
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Response counters keyed by {@link HttpStatus}. <br>
+ * Every constant and every status class (1xx to 5xx) has its own striped {@link LongAdder}, so recording a response
+ * never allocates and never contends on a single counter, even with many writers. A per-status latency histogram can
+ * be enabled by supplying bucket bounds to the constructor.
+ * <p>
+ * Use {@link #snapshot()} to read the counters, and export the snapshot with {@link Snapshot#toPrometheus(String)} or
+ * {@link Snapshot#toJson()}.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 10:12 AM
+ */
+public final class HttpStatusMetrics {
+	private static final HttpStatus[] STATUSES = HttpStatus.values();
+	/**
+	 * Labels of the status classes, index is the first digit of the code; index 0 holds every code outside 1xx to 5xx
+	 */
+	private static final String[] CLASS_LABELS = new String[]{"other", "1xx", "2xx", "3xx", "4xx", "5xx"};
+	
+	private final LongAdder[] statusCounters;
+	private final LongAdder[] classCounters;
+	/**
+	 * Upper bound in nanoseconds of every latency bucket (the +Inf bucket is implicit), or null if latency is not recorded
+	 */
+	private final long[] latencyBounds;
+	private final LongAdder[][] latencyBuckets;
+	private final LongAdder[] latencySums;
+	
+	/**
+	 * Creates metrics that only count responses
+	 */
+	public HttpStatusMetrics() {
+		this.statusCounters = newAdders(STATUSES.length);
+		this.classCounters = newAdders(CLASS_LABELS.length);
+		this.latencyBounds = null;
+		this.latencyBuckets = null;
+		this.latencySums = null;
+	}
+	
+	/**
+	 * Creates metrics that count responses and keep a latency histogram for every status
+	 *
+	 * @param latencyBounds
+	 * 		the upper bound of every histogram bucket, in ascending order
+	 * @param unit
+	 * 		the unit of the bounds
+	 * @throws IllegalArgumentException
+	 * 		if the bounds are empty or not strictly ascending
+	 */
+	public HttpStatusMetrics(long[] latencyBounds, TimeUnit unit) {
+		if (latencyBounds.length == 0) {
+			throw new IllegalArgumentException("at least one latency bound is required");
+		}
+		long[] bounds = new long[latencyBounds.length];
+		for (int i = 0; i < bounds.length; i++) {
+			bounds[i] = unit.toNanos(latencyBounds[i]);
+			if (i > 0 && bounds[i] <= bounds[i - 1]) {
+				throw new IllegalArgumentException("latency bounds must be strictly ascending");
+			}
+		}
+		this.statusCounters = newAdders(STATUSES.length);
+		this.classCounters = newAdders(CLASS_LABELS.length);
+		this.latencyBounds = bounds;
+		this.latencyBuckets = new LongAdder[STATUSES.length][];
+		for (int i = 0; i < latencyBuckets.length; i++) {
+			latencyBuckets[i] = newAdders(bounds.length + 1);
+		}
+		this.latencySums = newAdders(STATUSES.length);
+	}
+	
+	private static LongAdder[] newAdders(int size) {
+		LongAdder[] adders = new LongAdder[size];
+		for (int i = 0; i < size; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+	
+	private static int classIndex(int code) {
+		return code >= 100 && code < 600 ? code / 100: 0;
+	}
+	
+	/**
+	 * Returns true if this metrics keeps a latency histogram
+	 *
+	 * @return true if latency is recorded
+	 */
+	public boolean isLatencyEnabled() {
+		return latencyBounds != null;
+	}
+	
+	/**
+	 * Counts one response with the supplied status
+	 *
+	 * @param status
+	 * 		the status of the response
+	 */
+	public void record(HttpStatus status) {
+		statusCounters[status.ordinal()].increment();
+		classCounters[classIndex(status.getCode())].increment();
+	}
+	
+	/**
+	 * Counts one response with the supplied code. The status counter is the one of {@link HttpStatus#primary(int)},
+	 * while the class counter follows the code itself, so a code without a constant, e.g. 590, still counts as 5xx.
+	 *
+	 * @param code
+	 * 		the status code of the response
+	 */
+	public void record(int code) {
+		statusCounters[HttpStatus.primary(code).ordinal()].increment();
+		classCounters[classIndex(code)].increment();
+	}
+	
+	/**
+	 * Counts one response with the supplied status and records its latency, if the histogram is enabled
+	 *
+	 * @param status
+	 * 		the status of the response
+	 * @param latencyNanos
+	 * 		the latency of the response in nanoseconds
+	 */
+	public void record(HttpStatus status, long latencyNanos) {
+		record(status);
+		if (latencyBounds != null) {
+			int bucket = Arrays.binarySearch(latencyBounds, latencyNanos);
+			// bounds are inclusive upper bounds; a miss returns (-(insertion point) - 1)
+			latencyBuckets[status.ordinal()][bucket >= 0 ? bucket: -bucket - 1].increment();
+			latencySums[status.ordinal()].add(latencyNanos);
+		}
+	}
+	
+	/**
+	 * Returns the current number of responses with the supplied status
+	 *
+	 * @param status
+	 * 		the status to read
+	 * @return the number of responses
+	 */
+	public long count(HttpStatus status) {
+		return statusCounters[status.ordinal()].sum();
+	}
+	
+	/**
+	 * Reads every counter into a new snapshot. <br>
+	 * Counters are read one by one while writers keep recording, so the snapshot is not an atomic view.
+	 *
+	 * @return a snapshot of the counters
+	 */
+	public Snapshot snapshot() {
+		long[] statusCounts = sum(statusCounters);
+		long[] classCounts = sum(classCounters);
+		long[][] bucketCounts = null;
+		long[] sums = null;
+		if (latencyBounds != null) {
+			bucketCounts = new long[STATUSES.length][];
+			for (int i = 0; i < bucketCounts.length; i++) {
+				bucketCounts[i] = sum(latencyBuckets[i]);
+			}
+			sums = sum(latencySums);
+		}
+		return new Snapshot(statusCounts, classCounts, latencyBounds, bucketCounts, sums);
+	}
+	
+	private static long[] sum(LongAdder[] adders) {
+		long[] sums = new long[adders.length];
+		for (int i = 0; i < adders.length; i++) {
+			sums[i] = adders[i].sum();
+		}
+		return sums;
+	}
+	
+	/**
+	 * Immutable copy of the counters of a {@link HttpStatusMetrics}
+	 */
+	public static final class Snapshot {
+		private final long[] statusCounts;
+		private final long[] classCounts;
+		private final long[] latencyBounds;
+		private final long[][] latencyBuckets;
+		private final long[] latencySums;
+		
+		private Snapshot(long[] statusCounts, long[] classCounts, long[] latencyBounds, long[][] latencyBuckets, long[] latencySums) {
+			this.statusCounts = statusCounts;
+			this.classCounts = classCounts;
+			this.latencyBounds = latencyBounds;
+			this.latencyBuckets = latencyBuckets;
+			this.latencySums = latencySums;
+		}
+		
+		/**
+		 * Returns the number of responses with the supplied status
+		 *
+		 * @param status
+		 * 		the status to read
+		 * @return the number of responses
+		 */
+		public long count(HttpStatus status) {
+			return statusCounts[status.ordinal()];
+		}
+		
+		/**
+		 * Returns the number of responses in the supplied status class
+		 *
+		 * @param statusClass
+		 * 		the first digit of the class, from 1 to 5
+		 * @return the number of responses
+		 * @throws IllegalArgumentException
+		 * 		if the class is not from 1 to 5
+		 */
+		public long classCount(int statusClass) {
+			if (statusClass < 1 || statusClass > 5) {
+				throw new IllegalArgumentException("status class must be from 1 to 5: " + statusClass);
+			}
+			return classCounts[statusClass];
+		}
+		
+		/**
+		 * Returns the number of responses of every status
+		 *
+		 * @return the total number of responses
+		 */
+		public long total() {
+			long total = 0;
+			for (long count : classCounts) {
+				total += count;
+			}
+			return total;
+		}
+		
+		/**
+		 * Renders this snapshot in the Prometheus text exposition format. Statuses without any response,
+		 * or without any recorded latency for the histogram, are left out.
+		 *
+		 * @param prefix
+		 * 		the prefix of every metric name, e.g. <code>http</code>
+		 * @return the snapshot in Prometheus text format
+		 */
+		public String toPrometheus(String prefix) {
+			StringBuilder builder = new StringBuilder(2048);
+			builder.append("# HELP ").append(prefix).append("_responses_total Responses by HTTP status.\n");
+			builder.append("# TYPE ").append(prefix).append("_responses_total counter\n");
+			for (HttpStatus status : STATUSES) {
+				if (statusCounts[status.ordinal()] > 0) {
+					builder.append(prefix).append("_responses_total{");
+					appendLabels(builder, status);
+					builder.append("} ").append(statusCounts[status.ordinal()]).append('\n');
+				}
+			}
+			builder.append("# HELP ").append(prefix).append("_responses_class_total Responses by HTTP status class.\n");
+			builder.append("# TYPE ").append(prefix).append("_responses_class_total counter\n");
+			for (int i = 0; i < CLASS_LABELS.length; i++) {
+				builder.append(prefix).append("_responses_class_total{class=\"").append(CLASS_LABELS[i]).append("\"} ").append(classCounts[i]).append('\n');
+			}
+			if (latencyBounds != null) {
+				String name = prefix + "_response_latency_seconds";
+				builder.append("# HELP ").append(name).append(" Response latency by HTTP status.\n");
+				builder.append("# TYPE ").append(name).append(" histogram\n");
+				for (HttpStatus status : STATUSES) {
+					long[] buckets = latencyBuckets[status.ordinal()];
+					long cumulative = 0;
+					for (long bucket : buckets) {
+						cumulative += bucket;
+					}
+					if (cumulative == 0) {
+						continue;
+					}
+					cumulative = 0;
+					for (int i = 0; i < buckets.length; i++) {
+						cumulative += buckets[i];
+						builder.append(name).append("_bucket{");
+						appendLabels(builder, status);
+						builder.append(",le=\"").append(i < latencyBounds.length ? Double.toString(latencyBounds[i] / 1e9): "+Inf").append("\"} ").append(cumulative).append('\n');
+					}
+					builder.append(name).append("_sum{");
+					appendLabels(builder, status);
+					builder.append("} ").append(latencySums[status.ordinal()] / 1e9).append('\n');
+					builder.append(name).append("_count{");
+					appendLabels(builder, status);
+					builder.append("} ").append(cumulative).append('\n');
+				}
+			}
+			return builder.toString();
+		}
+		
+		private static void appendLabels(StringBuilder builder, HttpStatus status) {
+			builder.append("code=\"").append(status.getCode()).append("\",status=\"").append(status.name()).append('"');
+		}
+		
+		/**
+		 * Renders this snapshot as a json object. Statuses without any response are left out.
+		 *
+		 * @return the snapshot as json
+		 */
+		public String toJson() {
+			StringBuilder builder = new StringBuilder(1024);
+			builder.append("{\"total\": ").append(total()).append(", \"classes\": {");
+			for (int i = 0; i < CLASS_LABELS.length; i++) {
+				if (i > 0) {
+					builder.append(", ");
+				}
+				builder.append('"').append(CLASS_LABELS[i]).append("\": ").append(classCounts[i]);
+			}
+			builder.append("}, \"statuses\": [");
+			boolean first = true;
+			for (HttpStatus status : STATUSES) {
+				long count = statusCounts[status.ordinal()];
+				if (count == 0) {
+					continue;
+				}
+				if (!first) {
+					builder.append(", ");
+				}
+				first = false;
+				builder.append("{\"code\": ").append(status.getCode()).append(", \"status\": \"").append(status.name()).append("\", \"count\": ").append(count);
+				if (latencyBounds != null) {
+					builder.append(", \"latencySumNanos\": ").append(latencySums[status.ordinal()]).append(", \"latencyBuckets\": [");
+					long[] buckets = latencyBuckets[status.ordinal()];
+					for (int i = 0; i < buckets.length; i++) {
+						if (i > 0) {
+							builder.append(", ");
+						}
+						builder.append("{\"le\": ").append(i < latencyBounds.length ? Long.toString(latencyBounds[i]): "null").append(", \"count\": ").append(buckets[i]).append('}');
+					}
+					builder.append(']');
+				}
+				builder.append('}');
+			}
+			builder.append("]}");
+			return builder.toString();
+		}
+	}
+}
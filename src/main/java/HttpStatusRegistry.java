@@ -0,0 +1,208 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lookup of status codes that also knows custom codes registered at runtime, e.g. private 5xx codes of an internal
+ * load balancer that would otherwise all collapse into {@link HttpStatus#Unknown}. <br>
+ * Lookups read a single volatile reference to an immutable array snapshot, so they are wait-free and never slowed down
+ * by registrations. Every registration copies the snapshot and publishes the copy, so registering is meant to happen
+ * rarely, e.g. at startup.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 05:15 PM
+ */
+public final class HttpStatusRegistry {
+	private static final int MIN_CODE = HttpStatus.MIN_CODE;
+	private static final int MAX_CODE = HttpStatus.MAX_CODE;
+	/**
+	 * Entry of {@link HttpStatus#primary(int)} of every code, null where no constant uses the code
+	 */
+	private static final Entry[] BUILT_IN = new Entry[MAX_CODE - MIN_CODE + 1];
+	private static final Entry UNKNOWN = new Entry(HttpStatus.Unknown);
+	
+	static {
+		for (int code = MIN_CODE; code <= MAX_CODE; code++) {
+			HttpStatus status = HttpStatus.primary(code);
+			if (status != HttpStatus.Unknown) {
+				BUILT_IN[code - MIN_CODE] = new Entry(status);
+			}
+		}
+		BUILT_IN[HttpStatus.Unknown.getCode() - MIN_CODE] = UNKNOWN;
+	}
+	
+	/**
+	 * Current snapshot, never modified once published
+	 */
+	private volatile Entry[] entries = BUILT_IN;
+	
+	/**
+	 * Returns the entry of the supplied code: a custom entry if one is registered, otherwise the entry of
+	 * {@link HttpStatus#primary(int)}. Returns the entry of {@link HttpStatus#Unknown} if the code is unknown.
+	 *
+	 * @param code
+	 * 		the status code
+	 * @return the entry of the code
+	 */
+	public Entry get(int code) {
+		if (code < MIN_CODE || code > MAX_CODE) {
+			return UNKNOWN;
+		}
+		Entry entry = entries[code - MIN_CODE];
+		return entry == null ? UNKNOWN: entry;
+	}
+	
+	/**
+	 * Registers a custom status code
+	 *
+	 * @param code
+	 * 		the status code, from 100 to 999
+	 * @param name
+	 * 		the name of the status
+	 * @param description
+	 * 		a description of the status
+	 * @return the registered entry
+	 * @throws IllegalArgumentException
+	 * 		if the code is out of range, or the name or description is null
+	 * @throws IllegalStateException
+	 * 		if the code is already used by a constant or another custom entry
+	 */
+	public synchronized Entry register(int code, String name, String description) {
+		if (code < MIN_CODE || code > MAX_CODE) {
+			throw new IllegalArgumentException("status code must be from " + MIN_CODE + " to " + MAX_CODE + ": " + code);
+		}
+		if (name == null || description == null) {
+			throw new IllegalArgumentException("name and description are required");
+		}
+		Entry current = entries[code - MIN_CODE];
+		if (current != null) {
+			throw new IllegalStateException("status code " + code + " is already used by " + current.getName());
+		}
+		Entry entry = new Entry(code, name, description);
+		Entry[] next = entries.clone();
+		next[code - MIN_CODE] = entry;
+		entries = next;
+		return entry;
+	}
+	
+	/**
+	 * Removes a custom status code, built-in codes cannot be removed
+	 *
+	 * @param code
+	 * 		the status code
+	 * @return true if a custom entry was removed
+	 */
+	public synchronized boolean unregister(int code) {
+		if (code < MIN_CODE || code > MAX_CODE) {
+			return false;
+		}
+		Entry current = entries[code - MIN_CODE];
+		if (current == null || !current.isCustom()) {
+			return false;
+		}
+		Entry[] next = entries.clone();
+		next[code - MIN_CODE] = null;
+		entries = next;
+		return true;
+	}
+	
+	/**
+	 * Returns every custom entry of the current snapshot, in code order
+	 *
+	 * @return an unmodifiable list of the custom entries
+	 */
+	public List<Entry> getCustomEntries() {
+		Entry[] snapshot = entries;
+		List<Entry> custom = new ArrayList<Entry>();
+		for (Entry entry : snapshot) {
+			if (entry != null && entry.isCustom()) {
+				custom.add(entry);
+			}
+		}
+		return Collections.unmodifiableList(custom);
+	}
+	
+	/**
+	 * A status known to a registry: either a {@link HttpStatus} constant or a custom code
+	 */
+	public static final class Entry {
+		private final int code;
+		private final String name;
+		private final String description;
+		private final HttpStatus status;
+		
+		private Entry(HttpStatus status) {
+			this.code = status.getCode();
+			this.name = status.getName();
+			this.description = status.getDescription();
+			this.status = status;
+		}
+		
+		private Entry(int code, String name, String description) {
+			this.code = code;
+			this.name = name;
+			this.description = description;
+			this.status = null;
+		}
+		
+		/**
+		 * Returns the int status code of this entry
+		 *
+		 * @return the int status code of this entry
+		 */
+		public int getCode() {
+			return code;
+		}
+		
+		/**
+		 * Returns the name of this entry
+		 *
+		 * @return the name of this entry
+		 */
+		public String getName() {
+			return name;
+		}
+		
+		/**
+		 * Returns a description of this entry
+		 *
+		 * @return a description of this entry
+		 */
+		public String getDescription() {
+			return description;
+		}
+		
+		/**
+		 * Returns the category of this entry
+		 *
+		 * @return the category of this entry
+		 */
+		public HttpStatus.Category getCategory() {
+			return status != null ? status.getCategory(): HttpStatus.Category.of(code);
+		}
+		
+		/**
+		 * Returns the constant of this entry, or {@link HttpStatus#Unknown} for a custom entry
+		 *
+		 * @return the constant of this entry
+		 */
+		public HttpStatus getStatus() {
+			return status != null ? status: HttpStatus.Unknown;
+		}
+		
+		/**
+		 * Returns true if this entry was registered at runtime
+		 *
+		 * @return true if this entry is custom
+		 */
+		public boolean isCustom() {
+			return status == null;
+		}
+		
+		@Override
+		public String toString() {
+			return code + " " + name;
+		}
+	}
+}
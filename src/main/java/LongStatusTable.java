@@ -0,0 +1,227 @@
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Counter or other <code>long</code> of every {@link HttpStatus}, backed by a plain <code>long[]</code> indexed by
+ * {@link HttpStatus#ordinal()}: the primitive twin of {@link StatusTable}, nothing is ever boxed. <br>
+ * {@link #get(int)} and the other code based methods go through {@link HttpStatus#primary(int)}, so every unknown code
+ * shares the entry of {@link HttpStatus#Unknown}. A status that was never set reads 0.
+ * <p>
+ * A table is not thread-safe while it is being updated, use {@link HttpStatusMetrics} for counters shared between
+ * threads. {@link #freeze()} returns an immutable copy that can be shared by any number of threads without locking.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 09:20 PM
+ */
+public final class LongStatusTable {
+	private static final HttpStatus[] STATUSES = HttpStatus.values();
+	
+	private final long[] values;
+	private final boolean frozen;
+	
+	/**
+	 * Creates a table where every status reads 0
+	 */
+	public LongStatusTable() {
+		this(new long[STATUSES.length], false);
+	}
+	
+	private LongStatusTable(long[] values, boolean frozen) {
+		this.values = values;
+		this.frozen = frozen;
+	}
+	
+	/**
+	 * Creates a table holding a copy of the supplied histogram, e.g. one returned by {@link HttpStatusHistogram}
+	 *
+	 * @param histogram
+	 * 		a count per status, index is {@link HttpStatus#ordinal()}
+	 * @return a new mutable table
+	 * @throws IllegalArgumentException
+	 * 		if the length of the histogram is not the number of constants
+	 */
+	public static LongStatusTable of(long[] histogram) {
+		if (histogram.length != STATUSES.length) {
+			throw new IllegalArgumentException("histogram must have " + STATUSES.length + " entries: " + histogram.length);
+		}
+		return new LongStatusTable(histogram.clone(), false);
+	}
+	
+	/**
+	 * Returns the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @return the value, 0 if it was never set
+	 */
+	public long get(HttpStatus status) {
+		return values[status.ordinal()];
+	}
+	
+	/**
+	 * Returns the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @return the value, 0 if it was never set
+	 */
+	public long get(int code) {
+		return values[HttpStatus.primary(code).ordinal()];
+	}
+	
+	/**
+	 * Sets the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @param value
+	 * 		the value
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public void set(HttpStatus status, long value) {
+		checkMutable();
+		values[status.ordinal()] = value;
+	}
+	
+	/**
+	 * Sets the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @param value
+	 * 		the value
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public void set(int code, long value) {
+		set(HttpStatus.primary(code), value);
+	}
+	
+	/**
+	 * Adds to the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @param delta
+	 * 		the amount to add
+	 * @return the new value
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public long add(HttpStatus status, long delta) {
+		checkMutable();
+		return values[status.ordinal()] += delta;
+	}
+	
+	/**
+	 * Adds to the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @param delta
+	 * 		the amount to add
+	 * @return the new value
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public long add(int code, long delta) {
+		return add(HttpStatus.primary(code), delta);
+	}
+	
+	/**
+	 * Adds one to the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @return the new value
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public long increment(int code) {
+		return add(HttpStatus.primary(code), 1);
+	}
+	
+	/**
+	 * Returns the sum of every value
+	 *
+	 * @return the sum of every value
+	 */
+	public long sum() {
+		long sum = 0;
+		for (long value : values) {
+			sum += value;
+		}
+		return sum;
+	}
+	
+	/**
+	 * Passes every status with a value other than 0 to the action, in declaration order
+	 *
+	 * @param action
+	 * 		the action
+	 */
+	public void forEach(ObjLongConsumer<HttpStatus> action) {
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != 0) {
+				action.accept(STATUSES[i], values[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns a copy of every value, index is {@link HttpStatus#ordinal()}
+	 *
+	 * @return a new array
+	 */
+	public long[] toArray() {
+		return values.clone();
+	}
+	
+	/**
+	 * Returns an immutable copy of this table, or this table if it is already frozen. <br>
+	 * Every field of the copy is final, so it can be published to other threads without synchronization.
+	 *
+	 * @return a frozen table
+	 */
+	public LongStatusTable freeze() {
+		return frozen ? this: new LongStatusTable(values.clone(), true);
+	}
+	
+	/**
+	 * Returns true if this table is immutable
+	 *
+	 * @return true if this table is frozen
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+	
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException("table is frozen");
+		}
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != 0) {
+				builder.append(builder.length() > 1 ? ", ": "").append(STATUSES[i].getCode()).append(' ').append(STATUSES[i].getName()).append('=').append(values[i]);
+			}
+		}
+		return builder.append('}').toString();
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof LongStatusTable && Arrays.equals(values, ((LongStatusTable) o).values);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+}
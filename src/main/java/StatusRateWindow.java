@@ -0,0 +1,255 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Response counts per {@link HttpStatus} and per {@link HttpStatus.Category} over a sliding time window, e.g. the ratio
+ * of server errors over the last 10 seconds for a circuit breaker. <br>
+ * The window is a ring of time buckets. Each bucket holds a striped {@link LongAdder} per status and per category,
+ * so recording never allocates, never locks and scales with the number of writers. A read sums the fixed number of
+ * buckets still inside the window, whatever the traffic.
+ * <p>
+ * When the clock moves into a new bucket, the first writer to notice recycles the oldest bucket. Counts recorded by
+ * other writers at the very moment a bucket is recycled may be lost, which is fine for rates but means the window
+ * is not suited to exact accounting; use {@link HttpStatusMetrics} for that. Reads leave a bucket out while it is
+ * being recycled, so they may briefly under-count but never see counts older than the window.
+ *
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 06:20 PM
+ */
+public final class StatusRateWindow {
+	private static final HttpStatus[] STATUSES = HttpStatus.values();
+	private static final HttpStatus.Category[] CATEGORIES = HttpStatus.Category.values();
+	/**
+	 * Epoch of a bucket while its counters are reset, never inside any window
+	 */
+	private static final long RECYCLING = Long.MIN_VALUE + 1;
+	
+	private final long bucketNanos;
+	private final Bucket[] buckets;
+	private final LongSupplier nanoClock;
+	
+	/**
+	 * Creates a window on the {@link System#nanoTime()} clock
+	 *
+	 * @param window
+	 * 		the length of the window
+	 * @param unit
+	 * 		the unit of the length
+	 * @param bucketCount
+	 * 		the number of buckets the window is split into; more buckets make the window slide more smoothly
+	 * @throws IllegalArgumentException
+	 * 		if the bucket count is below 1 or the window is shorter than one nanosecond per bucket
+	 */
+	public StatusRateWindow(long window, TimeUnit unit, int bucketCount) {
+		this(window, unit, bucketCount, System::nanoTime);
+	}
+	
+	/**
+	 * Creates a window on the supplied clock
+	 *
+	 * @param window
+	 * 		the length of the window
+	 * @param unit
+	 * 		the unit of the length
+	 * @param bucketCount
+	 * 		the number of buckets the window is split into; more buckets make the window slide more smoothly
+	 * @param nanoClock
+	 * 		a monotonic clock in nanoseconds
+	 * @throws IllegalArgumentException
+	 * 		if the bucket count is below 1 or the window is shorter than one nanosecond per bucket
+	 */
+	public StatusRateWindow(long window, TimeUnit unit, int bucketCount, LongSupplier nanoClock) {
+		if (bucketCount < 1) {
+			throw new IllegalArgumentException("at least one bucket is required: " + bucketCount);
+		}
+		long windowNanos = unit.toNanos(window);
+		if (windowNanos < bucketCount) {
+			throw new IllegalArgumentException("window is too short for " + bucketCount + " buckets");
+		}
+		this.bucketNanos = windowNanos / bucketCount;
+		this.buckets = new Bucket[bucketCount];
+		for (int i = 0; i < bucketCount; i++) {
+			buckets[i] = new Bucket();
+		}
+		this.nanoClock = nanoClock;
+	}
+	
+	/**
+	 * Returns the length of the window in nanoseconds, rounded down to a whole number of buckets
+	 *
+	 * @return the length of the window
+	 */
+	public long getWindowNanos() {
+		return bucketNanos * buckets.length;
+	}
+	
+	/**
+	 * Counts one response with the supplied status
+	 *
+	 * @param status
+	 * 		the status of the response
+	 */
+	public void record(HttpStatus status) {
+		record(status, status.getCategory());
+	}
+	
+	/**
+	 * Counts one response with the supplied code. The status count is the one of {@link HttpStatus#primary(int)},
+	 * while the category follows the code itself, see {@link HttpStatus.Category#of(int)}: a code without a constant,
+	 * e.g. 590 of a load balancer, still counts as a server error.
+	 *
+	 * @param code
+	 * 		the status code of the response
+	 */
+	public void record(int code) {
+		record(HttpStatus.primary(code), HttpStatus.Category.of(code));
+	}
+	
+	private void record(HttpStatus status, HttpStatus.Category category) {
+		Bucket bucket = current(epoch());
+		bucket.statuses[status.ordinal()].increment();
+		bucket.categories[category.ordinal()].increment();
+	}
+	
+	/**
+	 * Returns the number of responses with the supplied status inside the window
+	 *
+	 * @param status
+	 * 		the status to count
+	 * @return the number of responses
+	 */
+	public long count(HttpStatus status) {
+		long epoch = epoch();
+		long count = 0;
+		for (Bucket bucket : buckets) {
+			if (inWindow(bucket, epoch)) {
+				count += bucket.statuses[status.ordinal()].sum();
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Returns the number of responses of the supplied category inside the window
+	 *
+	 * @param category
+	 * 		the category to count
+	 * @return the number of responses
+	 */
+	public long count(HttpStatus.Category category) {
+		long epoch = epoch();
+		long count = 0;
+		for (Bucket bucket : buckets) {
+			if (inWindow(bucket, epoch)) {
+				count += bucket.categories[category.ordinal()].sum();
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Returns the number of responses inside the window
+	 *
+	 * @return the number of responses
+	 */
+	public long total() {
+		long epoch = epoch();
+		long count = 0;
+		for (Bucket bucket : buckets) {
+			if (inWindow(bucket, epoch)) {
+				for (LongAdder category : bucket.categories) {
+					count += category.sum();
+				}
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Returns the share of responses of the supplied category inside the window, e.g. the server error ratio
+	 *
+	 * @param category
+	 * 		the category
+	 * @return a ratio from 0 to 1, 0 if there is no response in the window
+	 */
+	public double ratio(HttpStatus.Category category) {
+		long epoch = epoch();
+		long count = 0;
+		long total = 0;
+		for (Bucket bucket : buckets) {
+			if (inWindow(bucket, epoch)) {
+				count += bucket.categories[category.ordinal()].sum();
+				for (LongAdder adder : bucket.categories) {
+					total += adder.sum();
+				}
+			}
+		}
+		return total == 0 ? 0: (double) count / total;
+	}
+	
+	/**
+	 * Returns the number of responses of the supplied category per second, averaged over the window
+	 *
+	 * @param category
+	 * 		the category
+	 * @return the rate per second
+	 */
+	public double ratePerSecond(HttpStatus.Category category) {
+		return count(category) * (double) TimeUnit.SECONDS.toNanos(1) / getWindowNanos();
+	}
+	
+	/**
+	 * Returns the number of the bucket-long period the clock is in; floorDiv keeps periods aligned across zero
+	 */
+	private long epoch() {
+		return Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+	}
+	
+	private boolean inWindow(Bucket bucket, long epoch) {
+		long bucketEpoch = bucket.epoch.get();
+		return bucketEpoch != RECYCLING && bucketEpoch > epoch - buckets.length && bucketEpoch <= epoch;
+	}
+	
+	/**
+	 * Returns the bucket of the supplied epoch, recycling it first if it still holds an older epoch
+	 */
+	private Bucket current(long epoch) {
+		// nanoTime may be negative, so may be the epoch
+		Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+		long bucketEpoch = bucket.epoch.get();
+		// park the bucket outside every window while it is reset, publishing the new epoch straight away would let
+		// readers sum the counts of the old epoch as if they were current
+		if (bucketEpoch < epoch && bucketEpoch != RECYCLING && bucket.epoch.compareAndSet(bucketEpoch, RECYCLING)) {
+			for (LongAdder adder : bucket.statuses) {
+				adder.reset();
+			}
+			for (LongAdder adder : bucket.categories) {
+				adder.reset();
+			}
+			bucket.epoch.set(epoch);
+		}
+		return bucket;
+	}
+	
+	private static final class Bucket {
+		/**
+		 * Epoch (clock divided by bucket length) of the counts held, {@link Long#MIN_VALUE} before the first use or
+		 * {@link #RECYCLING} while the counters are reset
+		 */
+		private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+		private final LongAdder[] statuses = new LongAdder[STATUSES.length];
+		private final LongAdder[] categories = new LongAdder[CATEGORIES.length];
+		
+		private Bucket() {
+			for (int i = 0; i < statuses.length; i++) {
+				statuses[i] = new LongAdder();
+			}
+			for (int i = 0; i < categories.length; i++) {
+				categories[i] = new LongAdder();
+			}
+		}
+	}
+}
@@ -0,0 +1,218 @@
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Map from {@link HttpStatus} to a value, backed by a plain array indexed by {@link HttpStatus#ordinal()}, e.g. the
+ * template or handler of every status. <br>
+ * Unlike a <code>HashMap&lt;Integer, V&gt;</code> keyed on {@link HttpStatus#getCode()}, {@link #get(int)} never boxes
+ * the code: it goes through the dense code table of {@link HttpStatus#primary(int)}, so a code shared by several
+ * constants reads the entry of the primary one, and every unknown code reads the entry of {@link HttpStatus#Unknown}.
+ * Iteration walks the array in declaration order. For counters, see {@link LongStatusTable} and {@link IntStatusTable}.
+ * <p>
+ * A table is not thread-safe while it is being filled. {@link #freeze()} returns an immutable copy that can be shared
+ * by any number of threads without locking.
+ *
+ * @param <V>
+ * 		the type of the values
+ * @author kamontat
+ * @version 1.0
+ * @since Sun 18/Oct/2026 - 09:10 PM
+ */
+public final class StatusTable<V> {
+	private static final HttpStatus[] STATUSES = HttpStatus.values();
+	
+	private final Object[] values;
+	private final boolean frozen;
+	
+	/**
+	 * Creates an empty table
+	 */
+	public StatusTable() {
+		this(new Object[STATUSES.length], false);
+	}
+	
+	private StatusTable(Object[] values, boolean frozen) {
+		this.values = values;
+		this.frozen = frozen;
+	}
+	
+	/**
+	 * Returns the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @return the value, or null if the status has none
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(HttpStatus status) {
+		return (V) values[status.ordinal()];
+	}
+	
+	/**
+	 * Returns the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @return the value, or null if the status of the code has none
+	 */
+	public V get(int code) {
+		return get(HttpStatus.primary(code));
+	}
+	
+	/**
+	 * Returns the value of the supplied status, or the supplied default if the status has none
+	 *
+	 * @param status
+	 * 		the status
+	 * @param defaultValue
+	 * 		the value returned when the status has none
+	 * @return the value
+	 */
+	public V getOrDefault(HttpStatus status, V defaultValue) {
+		V value = get(status);
+		return value != null ? value: defaultValue;
+	}
+	
+	/**
+	 * Returns true if the supplied status has a value
+	 *
+	 * @param status
+	 * 		the status
+	 * @return true if the status has a value
+	 */
+	public boolean containsKey(HttpStatus status) {
+		return values[status.ordinal()] != null;
+	}
+	
+	/**
+	 * Sets the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @param value
+	 * 		the value, null removes the current one
+	 * @return the previous value, or null if the status had none
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public V put(HttpStatus status, V value) {
+		checkMutable();
+		V previous = get(status);
+		values[status.ordinal()] = value;
+		return previous;
+	}
+	
+	/**
+	 * Sets the value of the supplied code, see {@link HttpStatus#primary(int)}
+	 *
+	 * @param code
+	 * 		the status code
+	 * @param value
+	 * 		the value, null removes the current one
+	 * @return the previous value, or null if the status of the code had none
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public V put(int code, V value) {
+		return put(HttpStatus.primary(code), value);
+	}
+	
+	/**
+	 * Removes the value of the supplied status
+	 *
+	 * @param status
+	 * 		the status
+	 * @return the removed value, or null if the status had none
+	 * @throws UnsupportedOperationException
+	 * 		if this table is frozen
+	 */
+	public V remove(HttpStatus status) {
+		return put(status, null);
+	}
+	
+	/**
+	 * Returns the number of statuses with a value
+	 *
+	 * @return the number of statuses with a value
+	 */
+	public int size() {
+		int size = 0;
+		for (Object value : values) {
+			if (value != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+	
+	/**
+	 * Returns true if no status has a value
+	 *
+	 * @return true if this table is empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Passes every status with a value to the action, in declaration order
+	 *
+	 * @param action
+	 * 		the action
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<HttpStatus, ? super V> action) {
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				action.accept(STATUSES[i], (V) values[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns an immutable copy of this table, or this table if it is already frozen. <br>
+	 * Every field of the copy is final, so it can be published to other threads without synchronization.
+	 *
+	 * @return a frozen table
+	 */
+	public StatusTable<V> freeze() {
+		return frozen ? this: new StatusTable<V>(values.clone(), true);
+	}
+	
+	/**
+	 * Returns true if this table is immutable
+	 *
+	 * @return true if this table is frozen
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+	
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException("table is frozen");
+		}
+	}
+	
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder("{");
+		forEach(new BiConsumer<HttpStatus, V>() {
+			@Override
+			public void accept(HttpStatus status, V value) {
+				builder.append(builder.length() > 1 ? ", ": "").append(status.getCode()).append(' ').append(status.getName()).append('=').append(value);
+			}
+		});
+		return builder.append('}').toString();
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof StatusTable && Arrays.equals(values, ((StatusTable<?>) o).values);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+}
@@ -0,0 +1,90 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads a small log with every awkward line shape, with chunks small enough to split lines at every possible byte.
+ */
+class AccessLogStatusExtractorTest {
+	private static final String[] LINES = new String[]{
+			"127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+			"127.0.0.1 - - [10/Oct/2000:13:55:37 -0700] \"GET /q?a=\\\"404\\\" 500 HTTP/1.1\" 404 0 \"-\" \"curl\"",
+			"garbage without a status",
+			"127.0.0.1 - - [10/Oct/2000:13:55:38 -0700] \"POST /x HTTP/1.1\" 503 -",
+			"127.0.0.1 - - [10/Oct/2000:13:55:39 -0700] \"GET /lb HTTP/1.1\" 590 7"
+	};
+	private static final HttpStatus[] STATUSES = new HttpStatus[]{
+			HttpStatus.OK, HttpStatus.Not_Found, HttpStatus.Unknown, HttpStatus.Service_Unavailable, HttpStatus.Unknown
+	};
+	
+	@TempDir
+	Path directory;
+	
+	/**
+	 * Writes the lines with mixed LF and CRLF endings, empty lines in between and no line break after the last one
+	 */
+	private Path writeLog() throws IOException {
+		String content = LINES[0] + "\n" + LINES[1] + "\r\n\n\r\n" + LINES[2] + "\n" + LINES[3] + "\r\n" + LINES[4];
+		return Files.write(directory.resolve("access.log"), content.getBytes(StandardCharsets.ISO_8859_1));
+	}
+	
+	@Test
+	void readsEveryLineShape() throws IOException {
+		Path log = writeLog();
+		long[] expected = HttpStatusHistogram.newHistogram();
+		for (HttpStatus status : STATUSES) {
+			expected[status.ordinal()]++;
+		}
+		assertArrayEquals(expected, AccessLogStatusExtractor.countStatuses(log));
+	}
+	
+	@Test
+	void chunkBoundariesDoNotChangeTheLines() throws IOException {
+		Path log = writeLog();
+		int longest = 0;
+		for (String line : LINES) {
+			longest = Math.max(longest, line.length());
+		}
+		// a line and its CRLF must fit in a chunk
+		for (int chunkSize = longest + 2; chunkSize <= Files.size(log) + 1; chunkSize++) {
+			final List<String> lines = new ArrayList<String>();
+			final List<HttpStatus> statuses = new ArrayList<HttpStatus>();
+			AccessLogStatusExtractor.forEachLine(log, null, (line, status) -> {
+				lines.add(decode(line));
+				statuses.add(status);
+			}, chunkSize);
+			assertEquals(Arrays.asList(LINES), lines, "chunk " + chunkSize);
+			assertEquals(Arrays.asList(STATUSES), statuses, "chunk " + chunkSize);
+		}
+		final int tooSmall = longest - 1;
+		assertThrows(IOException.class, () -> AccessLogStatusExtractor.forEachLine(log, null, (line, status) -> {
+		}, tooSmall));
+	}
+	
+	@Test
+	void forEachLineKeepsOnlyTheSuppliedStatuses() throws IOException {
+		final List<String> lines = new ArrayList<String>();
+		AccessLogStatusExtractor.forEachLine(writeLog(), EnumSet.of(HttpStatus.Not_Found, HttpStatus.Unknown), (line, status) -> {
+			assertTrue(line.isReadOnly());
+			lines.add(decode(line));
+		});
+		assertEquals(Arrays.asList(LINES[1], LINES[2], LINES[4]), lines);
+	}
+	
+	private static String decode(ByteBuffer line) {
+		byte[] bytes = new byte[line.remaining()];
+		line.duplicate().get(bytes);
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+}
@@ -0,0 +1,58 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every cached body is shared, has a matching length and decompresses to the plain body.
+ */
+class ErrorBodyCacheTest {
+	@Test
+	void everyBodyMatchesItsPlainRendering() throws IOException {
+		for (ErrorBodyCache.MediaType type : ErrorBodyCache.MediaType.values()) {
+			for (HttpStatus status : HttpStatus.values()) {
+				ErrorBodyCache.Body plain = ErrorBodyCache.get(status, type);
+				ErrorBodyCache.Body gzip = ErrorBodyCache.get(status, type, true);
+				assertSame(plain, ErrorBodyCache.get(status, type));
+				assertNull(plain.getContentEncoding());
+				assertEquals(type.getContentType(), plain.getContentType());
+				
+				byte[] bytes = bytes(plain.getBuffer());
+				assertEquals(plain.getContentLength(), bytes.length);
+				assertTrue(new String(bytes, StandardCharsets.UTF_8).contains(Integer.toString(status.getCode())));
+				if (gzip != plain) {
+					assertEquals("gzip", gzip.getContentEncoding());
+					assertTrue(gzip.getContentLength() < plain.getContentLength());
+					assertArrayEquals(bytes, gunzip(bytes(gzip.getBuffer())));
+				}
+			}
+		}
+		assertEquals(HttpStatus.Not_Found.getJsonString(), new String(bytes(ErrorBodyCache.get(HttpStatus.Not_Found, ErrorBodyCache.MediaType.JSON).getBuffer()), StandardCharsets.UTF_8));
+		assertEquals("{\"type\": \"about:blank\", \"title\": \"Not Found\", \"status\": 404, \"detail\": \"The requested resource was not found.\"}",
+				new String(bytes(ErrorBodyCache.get(HttpStatus.Not_Found, ErrorBodyCache.MediaType.PROBLEM_JSON).getBuffer()), StandardCharsets.UTF_8));
+	}
+	
+	private static byte[] bytes(ByteBuffer buffer) {
+		assertTrue(buffer.isReadOnly());
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+	
+	private static byte[] gunzip(byte[] bytes) throws IOException {
+		InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] chunk = new byte[512];
+		for (int read; (read = in.read(chunk)) > 0; ) {
+			out.write(chunk, 0, read);
+		}
+		return out.toByteArray();
+	}
+}
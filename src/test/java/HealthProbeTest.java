@@ -0,0 +1,180 @@
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Probes a local {@link HttpServer} standing in for a fleet of endpoints, and checks the counts and the concurrency bound.
+ */
+class HealthProbeTest {
+	@Test
+	void probeAllCountsByStatusAndStaysWithinBound() throws Exception {
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		ExecutorService serverThreads = Executors.newCachedThreadPool();
+		server.setExecutor(serverThreads);
+		server.createContext("/", exchange -> {
+			int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				try {
+					Thread.sleep(2);
+				} finally {
+					// leave the count before answering: once the headers are out the probe may start its next request
+					inFlight.decrementAndGet();
+				}
+				int code = Integer.parseInt(exchange.getRequestURI().getPath().substring(1));
+				// the stand-in may drop idle keep-alive connections under the client, so never leave one open
+				exchange.getResponseHeaders().set("Connection", "close");
+				exchange.sendResponseHeaders(code, -1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				exchange.close();
+			}
+		});
+		server.start();
+		try (HealthProbe probe = new HealthProbe(8, Duration.ofSeconds(10))) {
+			String base = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+			List<URI> uris = new ArrayList<URI>();
+			for (int i = 0; i < 300; i++) {
+				uris.add(URI.create(base + (i % 3 == 0 ? 200: i % 3 == 1 ? 404: 503)));
+			}
+			uris.add(URI.create(base + 290));
+			uris.add(URI.create("http://127.0.0.1:" + closedPort() + "/"));
+			
+			HealthProbe.Summary summary = probe.probeAll(uris);
+			// 290 has no constant but is still a success
+			assertEquals(101, summary.count(HttpStatus.Category.SUCCESS));
+			assertEquals(100, summary.count(HttpStatus.Category.CLIENT_ERROR));
+			assertEquals(100, summary.count(HttpStatus.Category.SERVER_ERROR));
+			assertEquals(0, summary.count(HttpStatus.Category.UNKNOWN));
+			assertEquals(100, summary.getStatuses().get(HttpStatus.Service_Unavailable));
+			assertEquals(1, summary.getFailures());
+			assertFalse(summary.isHealthy());
+			
+			HealthProbe.Result last = summary.getResults().get(uris.size() - 1);
+			assertTrue(last.isFailure());
+			assertSame(HttpStatus.Unknown, last.getStatus());
+			assertEquals(290, summary.getResults().get(300).getCode());
+			assertSame(HttpStatus.Unknown, summary.getResults().get(300).getStatus());
+			assertEquals(1, summary.getStatuses().get(HttpStatus.Unknown));
+			assertTrue(maxInFlight.get() <= 8, "in flight " + maxInFlight.get());
+			assertTrue(probe.probeAll(Arrays.asList(URI.create(base + 200), URI.create(base + 290))).isHealthy());
+		} finally {
+			server.stop(0);
+			serverThreads.shutdownNow();
+		}
+	}
+	
+	@Test
+	void uncheckedClientExceptionIsRecordedAsFailure() throws Exception {
+		HttpClient failing = new FailingClient();
+		try (HealthProbe probe = new HealthProbe(failing, 2, Duration.ofSeconds(1))) {
+			HealthProbe.Summary summary = probe.probeAll(Arrays.asList(URI.create("http://127.0.0.1/a"), URI.create("http://127.0.0.1/b")));
+			assertEquals(2, summary.getFailures());
+			for (HealthProbe.Result result : summary.getResults()) {
+				assertTrue(result.getFailure() instanceof IllegalStateException);
+				assertSame(HttpStatus.Category.UNKNOWN, result.getCategory());
+			}
+		}
+	}
+	
+	/**
+	 * Returns a local port nothing listens on
+	 */
+	private static int closedPort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+	
+	/**
+	 * Client whose every request fails with an unchecked exception
+	 */
+	private static final class FailingClient extends HttpClient {
+		@Override
+		public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+			throw new IllegalStateException("client is broken");
+		}
+		
+		@Override
+		public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+			throw new IllegalStateException("client is broken");
+		}
+		
+		@Override
+		public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler, HttpResponse.PushPromiseHandler<T> push) {
+			throw new IllegalStateException("client is broken");
+		}
+		
+		@Override
+		public Optional<CookieHandler> cookieHandler() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public Optional<Duration> connectTimeout() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public Redirect followRedirects() {
+			return Redirect.NEVER;
+		}
+		
+		@Override
+		public Optional<ProxySelector> proxy() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public SSLContext sslContext() {
+			return null;
+		}
+		
+		@Override
+		public SSLParameters sslParameters() {
+			return null;
+		}
+		
+		@Override
+		public Optional<Authenticator> authenticator() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public Version version() {
+			return Version.HTTP_1_1;
+		}
+		
+		@Override
+		public Optional<Executor> executor() {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers the shared tables, lazy caches and counters from many threads at once and checks every result against
+ * {@link HttpStatusLookupTest}'s reference scan, so that a data race shows up as a wrong answer.
+ */
+class HttpStatusConcurrencyTest {
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+	
+	/**
+	 * Runs the task on {@link #THREADS} threads released at the same time, and fails on the first failure of any of them
+	 */
+	private static void runConcurrently(final Callable<Void> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						start.await();
+						return task.call();
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<Void> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	void lookupsAndCachesAgreeWithScanUnderContention() throws Exception {
+		final int[] codes = HttpStatusLookupTest.codes();
+		final HttpStatus[][] expected = new HttpStatus[codes.length][];
+		for (int i = 0; i < codes.length; i++) {
+			expected[i] = HttpStatusLookupTest.referenceByCode(codes[i]);
+		}
+		runConcurrently(new Callable<Void>() {
+			@Override
+			public Void call() {
+				for (int round = 0; round < 5; round++) {
+					for (int i = 0; i < codes.length; i++) {
+						assertArrayEquals(expected[i], HttpStatus.getByCode(codes[i]));
+						assertArrayEquals(expected[i], HttpStatus.getByCode(Integer.toString(codes[i])));
+					}
+					for (HttpStatus status : HttpStatus.values()) {
+						assertSame(status, HttpStatus.getByName(status.getName()));
+						assertEquals(status.generateJsonString(), status.getJsonString());
+						assertEquals(status.getJsonString(), new String(status.getJsonBytes(), java.nio.charset.StandardCharsets.UTF_8));
+						assertEquals(status.getStatusLineLength(HttpStatus.Version.HTTP_1_1), ("HTTP/1.1 " + status.getCode() + " " + status.getName() + "\r\n").length());
+					}
+				}
+				return null;
+			}
+		});
+	}
+	
+	@Test
+	void metricsCountEveryRecord() throws Exception {
+		final HttpStatusMetrics metrics = new HttpStatusMetrics(new long[]{1, 10, 100}, TimeUnit.MILLISECONDS);
+		final int perThread = 100000;
+		runConcurrently(new Callable<Void>() {
+			@Override
+			public Void call() {
+				HttpStatus[] values = HttpStatus.values();
+				for (int i = 0; i < perThread; i++) {
+					metrics.record(values[i % values.length], i);
+				}
+				return null;
+			}
+		});
+		HttpStatusMetrics.Snapshot snapshot = metrics.snapshot();
+		assertEquals((long) THREADS * perThread, snapshot.total());
+		long sum = 0;
+		for (HttpStatus status : HttpStatus.values()) {
+			sum += snapshot.count(status);
+		}
+		assertEquals(snapshot.total(), sum);
+	}
+	
+	@Test
+	void registryReadersSeeConsistentSnapshots() throws Exception {
+		final HttpStatusRegistry registry = new HttpStatusRegistry();
+		final AtomicBoolean writing = new AtomicBoolean(true);
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int round = 0; round < 50; round++) {
+					for (int code = 590; code < 598; code++) {
+						registry.register(code, "Custom " + code, "custom");
+					}
+					for (int code = 590; code < 598; code++) {
+						registry.unregister(code);
+					}
+				}
+				writing.set(false);
+			}
+		});
+		writer.start();
+		runConcurrently(new Callable<Void>() {
+			@Override
+			public Void call() {
+				do {
+					for (int code = 100; code <= 999; code++) {
+						HttpStatusRegistry.Entry entry = registry.get(code);
+						if (entry.isCustom()) {
+							assertEquals(code, entry.getCode());
+							assertTrue(code >= 590 && code < 598);
+						} else {
+							assertSame(HttpStatus.primary(code), entry.getStatus());
+						}
+					}
+				} while (writing.get());
+				return null;
+			}
+		});
+		writer.join();
+		assertTrue(registry.getCustomEntries().isEmpty());
+	}
+}
@@ -0,0 +1,34 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the forms precomputed by the build from <code>src/main/data/http-status.csv</code> match the ones
+ * {@link HttpStatus} would render itself, so a stale or badly generated {@link HttpStatusData} fails the build.
+ */
+class HttpStatusDataTest {
+	@Test
+	void generatedFormsMatchRuntimeRendering() throws IOException {
+		HttpStatus[] values = HttpStatus.values();
+		assertEquals(values.length, HttpStatusData.NAMES.length);
+		assertEquals(values.length, HttpStatusData.JSON.length);
+		assertEquals(values.length, HttpStatusData.PRETTY.length);
+		for (HttpStatus status : values) {
+			assertEquals(status.name().replace('_', ' '), status.getName());
+			assertEquals(status.generateJsonString(), status.getJsonString());
+			assertEquals(String.format("{\n\t\"code\": %s, \n\t\"name\": \"%s\", \n\t\"description\": \"%s\"}", status.getCode(),
+					HttpStatus.escapeJson(status.getName()), HttpStatus.escapeJson(status.getDescription())), status.toString());
+			assertEquals(status.getJsonString(), status.appendTo(new StringBuilder()).toString());
+			assertEquals("x" + status, status.appendPrettyTo((Appendable) new StringBuilder("x")).toString());
+		}
+	}
+	
+	@Test
+	void escapeJsonEscapesQuotesBackslashesAndControlCharacters() {
+		assertEquals("a\\\"b\\\\c\\nd\\u0001e", HttpStatus.escapeJson("a\"b\\c\nd\u0001e"));
+		assertEquals("\\r\\t\\u001f ~", HttpStatus.escapeJson("\r\t\u001f ~"));
+		assertEquals("plain text", HttpStatus.escapeJson("plain text"));
+	}
+}
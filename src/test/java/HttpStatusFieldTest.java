@@ -0,0 +1,67 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the wire bytes of the pre-encoded <code>:status</code> fields against the static tables of RFC 7541 (HPACK)
+ * and RFC 9204 (QPACK).
+ */
+class HttpStatusFieldTest {
+	@Test
+	void hpackVectors() {
+		assertField(HttpStatus.FieldEncoding.HPACK, HttpStatus.OK, true, 0x88);
+		assertField(HttpStatus.FieldEncoding.HPACK, HttpStatus.Not_Found, true, 0x8d);
+		assertField(HttpStatus.FieldEncoding.HPACK, HttpStatus.Internal_Server_Error, true, 0x8e);
+		assertField(HttpStatus.FieldEncoding.HPACK, HttpStatus.Created, false, 0x08, 0x03, '2', '0', '1');
+		assertField(HttpStatus.FieldEncoding.HPACK, HttpStatus.Unknown, false, 0x08, 0x03, '9', '9', '9');
+	}
+	
+	@Test
+	void qpackVectors() {
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Early_Hints, true, 0xd8);
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.OK, true, 0xd9);
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Service_Unavailable, true, 0xdc);
+		// static index 63 and above no longer fits the 6-bit prefix
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Continue, true, 0xff, 0x00);
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Misdirected_Request, true, 0xff, 0x06);
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Internal_Server_Error, true, 0xff, 0x08);
+		assertField(HttpStatus.FieldEncoding.QPACK, HttpStatus.Created, false, 0x5f, 0x09, 0x03, '2', '0', '1');
+	}
+	
+	@Test
+	void everyFieldIsIndexedOrALiteralOfItsCode() {
+		for (HttpStatus.FieldEncoding encoding : HttpStatus.FieldEncoding.values()) {
+			for (HttpStatus status : HttpStatus.values()) {
+				byte[] field = new byte[status.getStatusFieldLength(encoding)];
+				status.copyStatusField(encoding, field, 0);
+				if (status.isStatusFieldIndexed(encoding)) {
+					assertTrue(field.length <= 2, status.name());
+				} else {
+					String digits = new String(field, field.length - 3, 3, StandardCharsets.ISO_8859_1);
+					assertEquals(Integer.toString(status.getCode()), digits, status.name());
+				}
+			}
+		}
+	}
+	
+	private static void assertField(HttpStatus.FieldEncoding encoding, HttpStatus status, boolean indexed, int... expected) {
+		byte[] bytes = new byte[expected.length];
+		for (int i = 0; i < expected.length; i++) {
+			bytes[i] = (byte) expected[i];
+		}
+		assertEquals(indexed, status.isStatusFieldIndexed(encoding), encoding + " " + status);
+		assertEquals(bytes.length, status.getStatusFieldLength(encoding), encoding + " " + status);
+		
+		byte[] copied = new byte[bytes.length + 2];
+		assertEquals(bytes.length, status.copyStatusField(encoding, copied, 1));
+		for (int i = 0; i < bytes.length; i++) {
+			assertEquals(bytes[i], copied[i + 1], encoding + " " + status + " byte " + i);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+		status.putStatusField(encoding, buffer);
+		assertArrayEquals(bytes, buffer.array(), encoding + " " + status);
+	}
+}
@@ -0,0 +1,190 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks every fast lookup path against a plain scan of {@link HttpStatus#values()}, for every int in a wide range
+ * around the table, the int extremes and the codes shared by several constants.
+ */
+class HttpStatusLookupTest {
+	/**
+	 * Every code checked by the property tests
+	 */
+	static int[] codes() {
+		int from = -2000;
+		int to = 3000;
+		int[] extremes = new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1000000, 1000000, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+		int[] codes = new int[to - from + 1 + extremes.length];
+		for (int code = from; code <= to; code++) {
+			codes[code - from] = code;
+		}
+		System.arraycopy(extremes, 0, codes, to - from + 1, extremes.length);
+		return codes;
+	}
+	
+	/**
+	 * The original linear scan of getByCode(int)
+	 */
+	static HttpStatus[] referenceByCode(int code) {
+		List<HttpStatus> statusList = new ArrayList<HttpStatus>();
+		for (HttpStatus status : HttpStatus.values()) {
+			if (status.getCode() == code) {
+				statusList.add(status);
+			}
+		}
+		return statusList.isEmpty() ? new HttpStatus[]{HttpStatus.Unknown}: statusList.toArray(new HttpStatus[0]);
+	}
+	
+	/**
+	 * The original Integer.parseInt based getByCode(String)
+	 */
+	static HttpStatus[] referenceByCode(String code) {
+		try {
+			return referenceByCode(Integer.parseInt(code));
+		} catch (NumberFormatException e) {
+			return new HttpStatus[]{HttpStatus.Unknown};
+		}
+	}
+	
+	@Test
+	void getByCodeIntMatchesScan() {
+		for (int code : codes()) {
+			assertArrayEquals(referenceByCode(code), HttpStatus.getByCode(code), "code " + code);
+			assertSame(referenceByCode(code)[0], HttpStatus.primary(code), "code " + code);
+		}
+	}
+	
+	@Test
+	void duplicateCodesKeepDeclarationOrder() {
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Checkpoint, HttpStatus.Early_Hints}, HttpStatus.getByCode(103));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Method_Failure, HttpStatus.Enhance_Your_Calm}, HttpStatus.getByCode(420));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Unavailable_For_Legal_Reasons, HttpStatus.Redirect}, HttpStatus.getByCode(451));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Token_Required, HttpStatus.Client_Closed_Request}, HttpStatus.getByCode(499));
+		assertSame(HttpStatus.getByCode(499), HttpStatus.getByCode(499));
+	}
+	
+	@Test
+	void primaryIgnoresWritesIntoSharedResult() {
+		HttpStatus[] shared = HttpStatus.getByCode(404);
+		try {
+			shared[0] = HttpStatus.OK;
+			assertSame(HttpStatus.Not_Found, HttpStatus.primary(404));
+		} finally {
+			shared[0] = HttpStatus.Not_Found;
+		}
+	}
+	
+	@Test
+	void getByCodeStringMatchesParseInt() {
+		List<String> inputs = new ArrayList<String>();
+		for (int code : codes()) {
+			inputs.add(Integer.toString(code));
+			inputs.add("+" + code);
+			inputs.add("00" + code);
+		}
+		String[] odd = new String[]{null, "", "+", "-", "-0", "+-404", "40 4", " 404", "404 ", "4O4", "abc", "404abc",
+				"٤٠٤", "４０４", "99999999999999999999", "-99999999999999999999", "0x194"};
+		for (String input : odd) {
+			inputs.add(input);
+		}
+		for (String input : inputs) {
+			assertArrayEquals(referenceByCode(input), HttpStatus.getByCode(input), "input " + input);
+			assertArrayEquals(referenceByCode(input), HttpStatus.getByCode((CharSequence) (input == null ? null: new StringBuilder(input))), "input " + input);
+		}
+	}
+	
+	@Test
+	void getByCodeBytesReadsThreeDigits() {
+		for (int code = 0; code <= 999; code++) {
+			String digits = String.format("%03d", code);
+			byte[] line = ("HTTP/1.1 " + digits + " Reason\r\n").getBytes(StandardCharsets.ISO_8859_1);
+			assertArrayEquals(referenceByCode(code), HttpStatus.getByCode(line, 9), "code " + digits);
+			ByteBuffer buffer = ByteBuffer.wrap(line);
+			buffer.position(9);
+			assertArrayEquals(referenceByCode(code), HttpStatus.getByCode(buffer), "code " + digits);
+			assertEquals(9, buffer.position());
+		}
+		byte[] bytes = "4x4".getBytes(StandardCharsets.ISO_8859_1);
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Unknown}, HttpStatus.getByCode(bytes, 0));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Unknown}, HttpStatus.getByCode(bytes, 1));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Unknown}, HttpStatus.getByCode(bytes, -1));
+		assertArrayEquals(new HttpStatus[]{HttpStatus.Unknown}, HttpStatus.getByCode((byte[]) null, 0));
+	}
+	
+	@Test
+	void sourceLookupMatchesFilteredScan() {
+		for (HttpStatus.Source source : HttpStatus.Source.values()) {
+			HttpStatus.Lookup lookup = HttpStatus.lookup(source);
+			for (int code : codes()) {
+				HttpStatus expected = HttpStatus.Unknown;
+				for (HttpStatus status : HttpStatus.values()) {
+					if (status.getCode() == code && status.getSource() == source) {
+						expected = status;
+						break;
+					}
+				}
+				assertSame(expected, lookup.get(code), source + " code " + code);
+			}
+		}
+		assertSame(HttpStatus.Client_Closed_Request, new HttpStatus.Lookup(EnumSet.of(HttpStatus.Source.IANA, HttpStatus.Source.NGINX)).get(499));
+	}
+	
+	@Test
+	void getByNameFindsEveryConstant() {
+		for (HttpStatus status : HttpStatus.values()) {
+			assertSame(status, HttpStatus.getByName(status.name()));
+			assertSame(status, HttpStatus.getByName(status.getName()));
+			assertSame(status, HttpStatus.getByName(status.getName().toUpperCase()));
+			assertSame(status, HttpStatus.getByName(new StringBuilder(status.getName().toLowerCase().replace(' ', '-'))));
+		}
+		assertSame(HttpStatus.Unknown, HttpStatus.getByName("Not Foun"));
+		assertSame(HttpStatus.Unknown, HttpStatus.getByName(""));
+		assertSame(HttpStatus.Unknown, HttpStatus.getByName(null));
+	}
+	
+	@Test
+	void histogramMatchesScan() {
+		int[] codes = codes();
+		long[] expected = new long[HttpStatus.values().length];
+		for (int code : codes) {
+			expected[referenceByCode(code)[0].ordinal()]++;
+		}
+		assertArrayEquals(expected, HttpStatusHistogram.histogram(codes));
+		assertArrayEquals(expected, HttpStatusHistogram.parallelHistogram(codes));
+	}
+	
+	@Test
+	void registryMatchesScan() {
+		HttpStatusRegistry registry = new HttpStatusRegistry();
+		for (int code : codes()) {
+			assertSame(referenceByCode(code)[0], registry.get(code).getStatus(), "code " + code);
+		}
+	}
+	
+	@Test
+	void codecRoundTripsEveryConstant() {
+		ByteBuffer buffer = ByteBuffer.allocate(3 * HttpStatus.values().length);
+		for (HttpStatus status : HttpStatus.values()) {
+			HttpStatusCodec.putId(status, buffer);
+			HttpStatusCodec.putCode(status, buffer);
+		}
+		buffer.flip();
+		for (HttpStatus status : HttpStatus.values()) {
+			assertSame(status, HttpStatusCodec.getId(buffer));
+			assertSame(HttpStatus.primary(status.getCode()), HttpStatusCodec.getCode(buffer));
+		}
+		assertSame(HttpStatus.Unknown, HttpStatusCodec.fromId(255));
+		// released ids never change, whatever the csv order
+		assertEquals(0, HttpStatusCodec.id(HttpStatus.Unknown));
+		assertEquals(6, HttpStatusCodec.id(HttpStatus.OK));
+		assertEquals(29, HttpStatusCodec.id(HttpStatus.Not_Found));
+		assertEquals(88, HttpStatusCodec.id(HttpStatus.Railgun_Error));
+		assertEquals(89, HttpStatusCodec.tableSize(1));
+	}
+}
@@ -0,0 +1,64 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the status classes and both export formats of {@link HttpStatusMetrics}.
+ */
+class HttpStatusMetricsTest {
+	@Test
+	void unknownCodeCountsInItsClass() {
+		HttpStatusMetrics metrics = new HttpStatusMetrics();
+		metrics.record(590);
+		metrics.record(503);
+		metrics.record(1234);
+		HttpStatusMetrics.Snapshot snapshot = metrics.snapshot();
+		assertEquals(2, snapshot.classCount(5));
+		assertEquals(2, snapshot.count(HttpStatus.Unknown));
+		assertEquals(1, snapshot.count(HttpStatus.Service_Unavailable));
+		assertEquals(3, snapshot.total());
+	}
+	
+	@Test
+	void exportsPrometheusAndJson() {
+		HttpStatusMetrics metrics = new HttpStatusMetrics(new long[]{10, 100}, TimeUnit.MILLISECONDS);
+		metrics.record(HttpStatus.OK, TimeUnit.MILLISECONDS.toNanos(5));
+		metrics.record(HttpStatus.OK, TimeUnit.MILLISECONDS.toNanos(50));
+		metrics.record(HttpStatus.Not_Found, TimeUnit.MILLISECONDS.toNanos(500));
+		metrics.record(590);
+		HttpStatusMetrics.Snapshot snapshot = metrics.snapshot();
+		
+		assertEquals("# HELP http_responses_total Responses by HTTP status.\n"
+				+ "# TYPE http_responses_total counter\n"
+				+ "http_responses_total{code=\"200\",status=\"OK\"} 2\n"
+				+ "http_responses_total{code=\"404\",status=\"Not_Found\"} 1\n"
+				+ "http_responses_total{code=\"999\",status=\"Unknown\"} 1\n"
+				+ "# HELP http_responses_class_total Responses by HTTP status class.\n"
+				+ "# TYPE http_responses_class_total counter\n"
+				+ "http_responses_class_total{class=\"other\"} 0\n"
+				+ "http_responses_class_total{class=\"1xx\"} 0\n"
+				+ "http_responses_class_total{class=\"2xx\"} 2\n"
+				+ "http_responses_class_total{class=\"3xx\"} 0\n"
+				+ "http_responses_class_total{class=\"4xx\"} 1\n"
+				+ "http_responses_class_total{class=\"5xx\"} 1\n"
+				+ "# HELP http_response_latency_seconds Response latency by HTTP status.\n"
+				+ "# TYPE http_response_latency_seconds histogram\n"
+				+ "http_response_latency_seconds_bucket{code=\"200\",status=\"OK\",le=\"0.01\"} 1\n"
+				+ "http_response_latency_seconds_bucket{code=\"200\",status=\"OK\",le=\"0.1\"} 2\n"
+				+ "http_response_latency_seconds_bucket{code=\"200\",status=\"OK\",le=\"+Inf\"} 2\n"
+				+ "http_response_latency_seconds_sum{code=\"200\",status=\"OK\"} 0.055\n"
+				+ "http_response_latency_seconds_count{code=\"200\",status=\"OK\"} 2\n"
+				+ "http_response_latency_seconds_bucket{code=\"404\",status=\"Not_Found\",le=\"0.01\"} 0\n"
+				+ "http_response_latency_seconds_bucket{code=\"404\",status=\"Not_Found\",le=\"0.1\"} 0\n"
+				+ "http_response_latency_seconds_bucket{code=\"404\",status=\"Not_Found\",le=\"+Inf\"} 1\n"
+				+ "http_response_latency_seconds_sum{code=\"404\",status=\"Not_Found\"} 0.5\n"
+				+ "http_response_latency_seconds_count{code=\"404\",status=\"Not_Found\"} 1\n", snapshot.toPrometheus("http"));
+		
+		assertEquals("{\"total\": 4, \"classes\": {\"other\": 0, \"1xx\": 0, \"2xx\": 2, \"3xx\": 0, \"4xx\": 1, \"5xx\": 1}, \"statuses\": ["
+				+ "{\"code\": 200, \"status\": \"OK\", \"count\": 2, \"latencySumNanos\": 55000000, \"latencyBuckets\": [{\"le\": 10000000, \"count\": 1}, {\"le\": 100000000, \"count\": 1}, {\"le\": null, \"count\": 0}]}, "
+				+ "{\"code\": 404, \"status\": \"Not_Found\", \"count\": 1, \"latencySumNanos\": 500000000, \"latencyBuckets\": [{\"le\": 10000000, \"count\": 0}, {\"le\": 100000000, \"count\": 0}, {\"le\": null, \"count\": 1}]}, "
+				+ "{\"code\": 999, \"status\": \"Unknown\", \"count\": 1, \"latencySumNanos\": 0, \"latencyBuckets\": [{\"le\": 10000000, \"count\": 0}, {\"le\": 100000000, \"count\": 0}, {\"le\": null, \"count\": 0}]}]}", snapshot.toJson());
+	}
+}
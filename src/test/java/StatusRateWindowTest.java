@@ -0,0 +1,140 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a {@link StatusRateWindow} with a manual clock: 10 buckets of 1 second each.
+ */
+class StatusRateWindowTest {
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	
+	@Test
+	void unknownServerErrorCountsAsServerError() {
+		StatusRateWindow window = new StatusRateWindow(10, TimeUnit.SECONDS, 10, new AtomicLong()::get);
+		window.record(590);
+		window.record(200);
+		assertEquals(0.5, window.ratio(HttpStatus.Category.SERVER_ERROR));
+		assertEquals(1, window.count(HttpStatus.Unknown));
+		assertEquals(0, window.count(HttpStatus.Category.UNKNOWN));
+		assertEquals(2, window.total());
+	}
+	
+	@Test
+	void bucketsRollOverAndExpire() {
+		AtomicLong clock = new AtomicLong();
+		StatusRateWindow window = new StatusRateWindow(10, TimeUnit.SECONDS, 10, clock::get);
+		assertEquals(10 * SECOND, window.getWindowNanos());
+		window.record(HttpStatus.Internal_Server_Error);
+		clock.set(3 * SECOND + 1);
+		window.record(HttpStatus.OK);
+		window.record(HttpStatus.OK);
+		assertEquals(3, window.total());
+		assertEquals(1.0 / 3, window.ratio(HttpStatus.Category.SERVER_ERROR), 1e-9);
+		
+		// the first bucket leaves the window once the clock reaches its 10th successor
+		clock.set(10 * SECOND - 1);
+		assertEquals(1, window.count(HttpStatus.Internal_Server_Error));
+		clock.set(10 * SECOND);
+		assertEquals(0, window.count(HttpStatus.Internal_Server_Error));
+		assertEquals(2, window.count(HttpStatus.OK));
+		
+		// recording into the ring slot of the expired bucket recycles it instead of adding to the old counts
+		window.record(HttpStatus.Not_Found);
+		assertEquals(1, window.count(HttpStatus.Category.CLIENT_ERROR));
+		assertEquals(0, window.count(HttpStatus.Category.SERVER_ERROR));
+		assertEquals(3, window.total());
+		
+		clock.set(20 * SECOND);
+		assertEquals(0, window.total());
+		assertEquals(0.0, window.ratio(HttpStatus.Category.SUCCESS));
+	}
+	
+	@Test
+	void negativeClockKeepsBucketsAligned() {
+		AtomicLong clock = new AtomicLong(-SECOND / 2);
+		StatusRateWindow window = new StatusRateWindow(10, TimeUnit.SECONDS, 10, clock::get);
+		window.record(503);
+		clock.set(-1);
+		window.record(503);
+		// still the same bucket: -0.5 s and -1 ns both fall in the second before zero
+		clock.set(9 * SECOND - 1);
+		assertEquals(2, window.count(HttpStatus.Service_Unavailable));
+		clock.set(9 * SECOND);
+		assertEquals(0, window.count(HttpStatus.Service_Unavailable));
+		
+		// far below zero, where the epoch and the ring index are both negative before flooring
+		clock.set(-25 * SECOND - 1);
+		StatusRateWindow early = new StatusRateWindow(10, TimeUnit.SECONDS, 10, clock::get);
+		early.record(HttpStatus.OK);
+		clock.set(-16 * SECOND - 1);
+		early.record(HttpStatus.Not_Found);
+		assertEquals(2, early.total());
+		clock.set(-16 * SECOND);
+		assertEquals(1, early.total());
+		assertEquals(1.0, early.ratio(HttpStatus.Category.CLIENT_ERROR));
+	}
+	
+	@Test
+	void readersNeverSeeCountsOfARecycledBucket() throws Exception {
+		final AtomicLong clock = new AtomicLong();
+		final StatusRateWindow window = new StatusRateWindow(10, TimeUnit.SECONDS, 10, clock::get);
+		final int readers = 3;
+		final int rounds = 300;
+		final CyclicBarrier barrier = new CyclicBarrier(readers + 1);
+		final AtomicInteger reading = new AtomicInteger();
+		final AtomicBoolean recycled = new AtomicBoolean();
+		final AtomicInteger stale = new AtomicInteger();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < readers; i++) {
+			Thread reader = new Thread(() -> {
+				try {
+					for (int round = 0; round < rounds; round++) {
+						barrier.await();
+						reading.incrementAndGet();
+						do {
+							if (window.count(HttpStatus.Internal_Server_Error) != 0) {
+								stale.incrementAndGet();
+							}
+						} while (!recycled.get());
+						barrier.await();
+					}
+				} catch (Exception e) {
+					stale.addAndGet(1000000);
+				}
+			});
+			reader.start();
+			threads.add(reader);
+		}
+		for (int round = 0; round < rounds; round++) {
+			// a burst of errors in ring slot 0, then the clock moves one whole window on, back to slot 0
+			long epoch = 20L * round;
+			clock.set(epoch * SECOND);
+			for (int i = 0; i < 100; i++) {
+				window.record(HttpStatus.Internal_Server_Error);
+			}
+			clock.set((epoch + 10) * SECOND);
+			reading.set(0);
+			recycled.set(false);
+			barrier.await();
+			while (reading.get() < readers) {
+				Thread.yield();
+			}
+			// recycles slot 0 while every reader checks that the old burst stays out of the window
+			window.record(HttpStatus.OK);
+			recycled.set(true);
+			barrier.await();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, stale.get());
+	}
+}
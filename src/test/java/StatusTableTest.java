@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the code based methods of the status tables agree with {@link HttpStatus#primary(int)} and that frozen
+ * tables reject every update.
+ */
+class StatusTableTest {
+	@Test
+	void codeLookupMatchesPrimary() {
+		StatusTable<String> table = new StatusTable<String>();
+		for (HttpStatus status : HttpStatus.values()) {
+			table.put(status, status.name());
+		}
+		LongStatusTable counts = new LongStatusTable();
+		for (int code : HttpStatusLookupTest.codes()) {
+			assertEquals(HttpStatus.primary(code).name(), table.get(code), "code " + code);
+			counts.increment(code);
+		}
+		assertEquals(HttpStatusLookupTest.codes().length, counts.sum());
+		assertArrayEquals(HttpStatusHistogram.histogram(HttpStatusLookupTest.codes()), counts.toArray());
+		assertEquals(counts, LongStatusTable.of(counts.toArray()));
+	}
+	
+	@Test
+	void iterationFollowsDeclarationOrder() {
+		StatusTable<Integer> table = new StatusTable<Integer>();
+		table.put(404, 1);
+		table.put(HttpStatus.OK, 2);
+		table.put(420, 3);
+		table.put(420, null);
+		final List<HttpStatus> seen = new ArrayList<HttpStatus>();
+		table.forEach((status, value) -> seen.add(status));
+		assertEquals(2, table.size());
+		assertEquals(2, seen.size());
+		assertSame(HttpStatus.OK, seen.get(0));
+		assertSame(HttpStatus.Not_Found, seen.get(1));
+		
+		IntStatusTable ints = new IntStatusTable();
+		ints.add(500, 2);
+		ints.increment(12345);
+		assertEquals(2, ints.get(HttpStatus.Internal_Server_Error));
+		assertEquals(1, ints.get(HttpStatus.Unknown));
+		assertEquals("{500 Internal Server Error=2, 999 Unknown=1}", ints.toString());
+	}
+	
+	@Test
+	void frozenTablesAreImmutableCopies() {
+		StatusTable<String> table = new StatusTable<String>();
+		table.put(HttpStatus.OK, "ok");
+		StatusTable<String> frozen = table.freeze();
+		table.put(HttpStatus.OK, "changed");
+		assertEquals("ok", frozen.get(200));
+		assertSame(frozen, frozen.freeze());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.put(HttpStatus.OK, "again"));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.remove(HttpStatus.OK));
+		
+		LongStatusTable counts = new LongStatusTable();
+		counts.set(200, 5);
+		LongStatusTable frozenCounts = counts.freeze();
+		assertTrue(frozenCounts.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> frozenCounts.increment(200));
+		assertThrows(UnsupportedOperationException.class, () -> new IntStatusTable().freeze().set(200, 1));
+		assertEquals(5, frozenCounts.get(HttpStatus.OK));
+	}
+}